@@ -14,6 +14,8 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.appsmith.git.helpers.PageDslCache;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,21 +28,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,6 +54,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static com.appsmith.external.git.constants.GitConstants.ACTION_COLLECTION_LIST;
@@ -74,6 +83,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     private final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final GitRepositoryCache gitRepositoryCache;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -84,17 +94,41 @@ public class FileUtilsCEImpl implements FileInterface {
 
     private final Scheduler scheduler = Schedulers.boundedElastic();
 
+    private static final int PAGE_SAVE_PARALLELISM = 4;
+
+    private static final int PAGE_IO_THREADS = 16;
+
+    private static final int PAGE_IO_THREAD_TTL_SECONDS = 60;
+
+    // Pages are handled on threads of their own while the calling thread, itself on the bounded elastic scheduler,
+    // waits for them. Running them on that same scheduler could use up its threads with callers that only wait, so
+    // they get a small dedicated pool instead.
+    private static final Scheduler PAGE_IO_SCHEDULER = Schedulers.newBoundedElastic(
+            PAGE_IO_THREADS,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "git-page-io",
+            PAGE_IO_THREAD_TTL_SECONDS,
+            true);
+
+    private static final int PAGE_READ_PARALLELISM = 4;
+
+    private static final int PAGE_DSL_CACHE_SIZE = 500;
+
+    private final PageDslCache pageDslCache = new PageDslCache(PAGE_DSL_CACHE_SIZE);
+
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
     public FileUtilsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            GitRepositoryCache gitRepositoryCache) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.gitRepositoryCache = gitRepositoryCache;
     }
 
     /**
@@ -242,47 +276,27 @@ public class FileUtilsCEImpl implements FileInterface {
         Set<Map.Entry<String, Object>> pageEntries =
                 applicationGitReference.getPages().entrySet();
 
-        Set<String> validPages = new HashSet<>();
-        for (Map.Entry<String, Object> pageResource : pageEntries) {
-            Map<String, String> validWidgetToParentMap = new HashMap<>();
-            final String pageName = pageResource.getKey();
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            boolean isResourceUpdated =
-                    modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
-            if (Boolean.TRUE.equals(isResourceUpdated)) {
-                // Save page metadata
-                saveResource(
-                        pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
-                Map<String, JSONObject> result = DSLTransformerHelper.flatten(
-                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
-                result.forEach((key, jsonObject) -> {
-                    // get path with splitting the name via key
-                    String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
-                    String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
-                            .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
-                    // Replace the canvas Widget as a child and add it to the same level as parent
-                    childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
-                    if (!DSLTransformerHelper.hasChildren(jsonObject)
-                            && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
-                        // Save the widget as a directory or Save the widget as a file
-                        childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+        Set<String> validPages = ConcurrentHashMap.newKeySet();
+        // Pages are stored in directories of their own, so they can be written independently of each other
+        Flux.fromIterable(pageEntries)
+                .parallel(PAGE_SAVE_PARALLELISM)
+                .runOn(PAGE_IO_SCHEDULER)
+                .doOnNext(pageResource -> {
+                    final String pageName = pageResource.getKey();
+                    boolean isResourceUpdated =
+                            modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
+                    if (Boolean.TRUE.equals(isResourceUpdated)) {
+                        savePage(
+                                pageResource.getValue(),
+                                applicationGitReference.getPageDsl().get(pageName),
+                                pageName,
+                                pageDirectory.resolve(pageName));
                     }
-                    Path path = Paths.get(
-                            String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
-                    validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
-                });
-                // Remove deleted widgets from the file system
-                deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
-
-                // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
-                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
-            }
-            validPages.add(pageName);
-        }
+                    validPages.add(pageName);
+                })
+                .sequential()
+                .then()
+                .block();
 
         fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
@@ -414,6 +428,43 @@ public class FileUtilsCEImpl implements FileInterface {
         return validPages;
     }
 
+    /**
+     * This method is used to write a page to the file system, along with every widget of the page in a file of its
+     * own. Widgets that are no longer present on the page, or that moved to a different parent, are removed.
+     *
+     * @param sourceEntity          the metadata of the page
+     * @param pageDsl               DSL of the page
+     * @param pageName              name of the page
+     * @param pageSpecificDirectory directory where the page will be stored
+     */
+    private void savePage(Object sourceEntity, String pageDsl, String pageName, Path pageSpecificDirectory) {
+        Map<String, String> validWidgetToParentMap = new HashMap<>();
+        // Save page metadata
+        saveResource(sourceEntity, pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+        Map<String, JSONObject> result = DSLTransformerHelper.flatten(new JSONObject(pageDsl));
+        result.forEach((key, jsonObject) -> {
+            // get path with splitting the name via key
+            String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
+            String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
+                    .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
+            // Replace the canvas Widget as a child and add it to the same level as parent
+            childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
+            if (!DSLTransformerHelper.hasChildren(jsonObject) && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
+                // Save the widget as a directory or Save the widget as a file
+                childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+            }
+            Path path = Paths.get(String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
+            validWidgetToParentMap.put(widgetName, path.toFile().toString());
+            fileOperations.saveWidgets(jsonObject, widgetName, path);
+        });
+        // Remove deleted widgets from the file system
+        deleteWidgets(pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+
+        // Remove the canvas.json from the file system since the value is stored in the page.json
+        fileOperations.deleteFile(
+                pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -504,9 +555,8 @@ public class FileUtilsCEImpl implements FileInterface {
     }
 
     private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        // Leaves the file untouched if it already holds this content
+        fileOperations.writeStringToFile(sourceEntity, path);
     }
 
     /**
@@ -578,6 +628,8 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        // Close the repositories opened from this directory, they would otherwise keep reading the deleted files
+        gitRepositoryCache.invalidate(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -792,30 +844,24 @@ public class FileUtilsCEImpl implements FileInterface {
         Map<String, Object> actionCollectionMap = new HashMap<>();
         Map<String, String> actionCollectionBodyMap = new HashMap<>();
         if (directory.isDirectory()) {
-            // Loop through all the directories and nested directories inside the pages directory to extract
-            // pages, actions and actionCollections from the JSON files
-            for (File page : Objects.requireNonNull(directory.listFiles())) {
-                if (page.isDirectory()) {
-                    pageMap.put(page.getName(), readPageMetadata(page.toPath()));
-
-                    JSONObject mainContainer = fileOperations.getMainContainer(pageMap.get(page.getName()));
-
-                    // Read widgets data recursively from the widgets directory
-                    Map<String, JSONObject> widgetsData = readWidgetsData(
-                            page.toPath().resolve(CommonConstants.WIDGETS).toString());
-                    // Construct the nested DSL from the widgets data
-                    Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
-                            widgetsData.keySet().stream().toList());
-                    JSONObject nestedDSL =
-                            DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
-                    pageDsl.put(page.getName(), nestedDSL.toString());
-                    actionMap.putAll(
-                            readAction(page.toPath().resolve(ACTION_DIRECTORY), page.getName(), actionBodyMap));
-                    actionCollectionMap.putAll(readActionCollection(
-                            page.toPath().resolve(ACTION_COLLECTION_DIRECTORY),
-                            page.getName(),
-                            actionCollectionBodyMap));
-                }
+            // Pages are stored in directories of their own, so they are read independently of each other and merged
+            // once all of them have been read
+            List<PageResources> pages = Flux.fromArray(Objects.requireNonNull(directory.listFiles()))
+                    .filter(File::isDirectory)
+                    .parallel(PAGE_READ_PARALLELISM)
+                    .runOn(PAGE_IO_SCHEDULER)
+                    .map(page -> readPageResources(page.toPath()))
+                    .sequential()
+                    .collectList()
+                    .block();
+
+            for (PageResources page : Objects.requireNonNull(pages)) {
+                pageMap.put(page.pageName(), page.metadata());
+                pageDsl.put(page.pageName(), page.dsl());
+                actionMap.putAll(page.actions());
+                actionBodyMap.putAll(page.actionBodies());
+                actionCollectionMap.putAll(page.actionCollections());
+                actionCollectionBodyMap.putAll(page.actionCollectionBodies());
             }
         }
         applicationGitReference.setActions(actionMap);
@@ -829,49 +875,121 @@ public class FileUtilsCEImpl implements FileInterface {
                 fileOperations.readFiles(baseRepoPath.resolve(DATASOURCE_DIRECTORY), CommonConstants.EMPTY_STRING));
     }
 
-    private Map<String, JSONObject> readWidgetsData(String directoryPath) {
-        Map<String, JSONObject> jsonMap = new HashMap<>();
-        File directory = new File(directoryPath);
+    private record PageResources(
+            String pageName,
+            Object metadata,
+            String dsl,
+            Map<String, Object> actions,
+            Map<String, String> actionBodies,
+            Map<String, Object> actionCollections,
+            Map<String, String> actionCollectionBodies) {}
+
+    private PageResources readPageResources(Path page) {
+        final String pageName = page.toFile().getName();
+        Object metadata = readPageMetadata(page);
+
+        Map<String, String> actionBodies = new HashMap<>();
+        Map<String, Object> actions = readAction(page.resolve(ACTION_DIRECTORY), pageName, actionBodies);
+        Map<String, String> actionCollectionBodies = new HashMap<>();
+        Map<String, Object> actionCollections =
+                readActionCollection(page.resolve(ACTION_COLLECTION_DIRECTORY), pageName, actionCollectionBodies);
+
+        return new PageResources(
+                pageName,
+                metadata,
+                readPageDsl(page, metadata),
+                actions,
+                actionBodies,
+                actionCollections,
+                actionCollectionBodies);
+    }
 
-        if (!directory.isDirectory()) {
-            log.error("Error reading directory: {}", directoryPath);
-            return jsonMap;
-        }
+    /**
+     * Builds the nested DSL of a page out of its widget files. The DSL built the last time is reused as long as none
+     * of the page metadata and widget files changed on disk since.
+     */
+    private String readPageDsl(Path page, Object pageMetadata) {
+        Path widgetsDirectory = page.resolve(CommonConstants.WIDGETS);
+        SortedMap<Path, BasicFileAttributes> pageFiles = listWidgetFiles(widgetsDirectory);
 
+        Path metadataPath = page.resolve(page.toFile().getName() + CommonConstants.JSON_EXTENSION);
         try {
-            readFilesRecursively(directory, jsonMap, directoryPath);
+            pageFiles.put(metadataPath, Files.readAttributes(metadataPath, BasicFileAttributes.class));
         } catch (IOException exception) {
-            log.error("Error reading directory: {}, error message {}", directoryPath, exception.getMessage());
+            // Without the metadata attributes there is nothing telling whether the main container changed
+            log.error("Error reading file: {}, error message {}", metadataPath, exception.getMessage());
+            return buildPageDsl(widgetsDirectory, pageFiles.keySet(), pageMetadata);
         }
 
-        return jsonMap;
+        String fingerprint = PageDslCache.fingerprint(pageFiles);
+        String dsl = pageDslCache.get(page, fingerprint);
+        if (dsl == null) {
+            pageFiles.remove(metadataPath);
+            dsl = buildPageDsl(widgetsDirectory, pageFiles.keySet(), pageMetadata);
+            if (PageDslCache.isSettled(pageFiles, Instant.now())) {
+                pageDslCache.put(page, fingerprint, dsl);
+            }
+        }
+        return dsl;
     }
 
-    private void readFilesRecursively(File directory, Map<String, JSONObject> jsonMap, String rootPath)
-            throws IOException {
-        File[] files = directory.listFiles();
-        if (files == null) {
-            return;
+    private String buildPageDsl(Path widgetsDirectory, Set<Path> widgetFiles, Object pageMetadata) {
+        JSONObject mainContainer = fileOperations.getMainContainer(pageMetadata);
+
+        // Read widgets data from the widgets directory
+        Map<String, JSONObject> widgetsData = readWidgetsData(widgetsDirectory, widgetFiles);
+        // Construct the nested DSL from the widgets data
+        Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
+                widgetsData.keySet().stream().toList());
+        JSONObject nestedDSL = DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
+        return nestedDSL.toString();
+    }
+
+    /**
+     * Lists the files in the widgets directory of a page, along with their attributes, in a single walk of the tree.
+     */
+    private SortedMap<Path, BasicFileAttributes> listWidgetFiles(Path widgetsDirectory) {
+        SortedMap<Path, BasicFileAttributes> widgetFiles = new TreeMap<>();
+        if (!Files.isDirectory(widgetsDirectory)) {
+            log.error("Error reading directory: {}", widgetsDirectory);
+            return widgetFiles;
         }
 
-        for (File file : files) {
-            if (file.isFile()) {
-                String filePath = file.getAbsolutePath();
-                String relativePath = filePath.replace(rootPath, CommonConstants.EMPTY_STRING);
-                relativePath = CommonConstants.DELIMITER_PATH
-                        + CommonConstants.MAIN_CONTAINER
-                        + relativePath.substring(relativePath.indexOf("//") + 1);
-                try {
-                    String fileContent = new String(Files.readAllBytes(file.toPath()));
-                    JSONObject jsonObject = new JSONObject(fileContent);
-                    jsonMap.put(relativePath, jsonObject);
-                } catch (IOException exception) {
-                    log.error("Error reading file: {}, error message {}", filePath, exception.getMessage());
+        try {
+            Files.walkFileTree(widgetsDirectory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        widgetFiles.put(file, attributes);
+                    }
+                    return FileVisitResult.CONTINUE;
                 }
-            } else if (file.isDirectory()) {
-                readFilesRecursively(file, jsonMap, rootPath);
+            });
+        } catch (IOException exception) {
+            log.error("Error reading directory: {}, error message {}", widgetsDirectory, exception.getMessage());
+        }
+        return widgetFiles;
+    }
+
+    private Map<String, JSONObject> readWidgetsData(Path widgetsDirectory, Set<Path> widgetFiles) {
+        Map<String, JSONObject> jsonMap = new HashMap<>();
+        String rootPath = widgetsDirectory.toString();
+
+        for (Path file : widgetFiles) {
+            String filePath = file.toFile().getAbsolutePath();
+            String relativePath = filePath.replace(rootPath, CommonConstants.EMPTY_STRING);
+            relativePath = CommonConstants.DELIMITER_PATH
+                    + CommonConstants.MAIN_CONTAINER
+                    + relativePath.substring(relativePath.indexOf("//") + 1);
+            try {
+                JSONObject jsonObject = new JSONObject(Files.readString(file));
+                jsonMap.put(relativePath, jsonObject);
+            } catch (IOException exception) {
+                log.error("Error reading file: {}, error message {}", filePath, exception.getMessage());
             }
         }
+
+        return jsonMap;
     }
 
     private void deleteWidgets(File directory, Map<String, String> validWidgetToParentMap) {
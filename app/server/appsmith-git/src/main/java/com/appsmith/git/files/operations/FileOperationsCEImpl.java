@@ -28,7 +28,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -146,9 +145,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     @Override
     public void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        writeIfChanged(sourceEntity.getBytes(StandardCharsets.UTF_8), path);
     }
 
     @Override
@@ -161,14 +158,34 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
+        try {
+            writeIfChanged(gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
         }
     }
 
+    /**
+     * Writes the content to the file, unless the file already holds exactly this content. Most resources are
+     * unchanged between two commits, skipping them saves the write and keeps the file untouched for git, which
+     * then doesn't need to hash it again to find out that it's unchanged.
+     *
+     * @param content serialized content of the resource
+     * @param path    file path where the content is to be stored
+     * @return true if the file was written
+     */
+    protected boolean writeIfChanged(byte[] content, Path path) throws IOException {
+        if (Files.isRegularFile(path)
+                && Files.size(path) == content.length
+                && Arrays.equals(Files.readAllBytes(path), content)) {
+            return false;
+        }
+
+        Files.write(path, content);
+        return true;
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
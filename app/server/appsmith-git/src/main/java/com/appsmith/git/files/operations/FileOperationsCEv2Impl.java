@@ -27,11 +27,9 @@ import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -109,8 +107,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            objectWriter.writeValue(fileWriter, sourceEntity);
+        try {
+            writeIfChanged(objectWriter.writeValueAsBytes(sourceEntity), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
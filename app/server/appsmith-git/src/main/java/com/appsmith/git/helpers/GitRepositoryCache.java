@@ -0,0 +1,247 @@
+package com.appsmith.git.helpers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryBuilder;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.util.FS;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the JGit repositories opened by the git executor, so that consecutive git operations on the same repository
+ * don't read the pack indexes, refs and config from disk all over again.
+ * <p>
+ * Every handle returned by {@link #open(Path)} holds a reference to the cached repository, which is released when the
+ * handle is closed. A repository is only closed once it is no longer referenced, and it is dropped from the cache when
+ * it has been idle for a while, when the cache grows past its size, or when its directory has been deleted or
+ * replaced on disk.
+ */
+@Component
+public class GitRepositoryCache {
+
+    private static final int MAX_REPOSITORIES = 200;
+    private static final Duration MAX_IDLE_TIME = Duration.ofMinutes(10);
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+    private static final int OPEN_LOCK_STRIPES = 32;
+
+    // Kept in access order, so that the least recently used repositories are evicted first
+    private final Map<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Serialize the checks and opens of the same repository, without holding the cache monitor during file system IO
+    private final Object[] openLocks = new Object[OPEN_LOCK_STRIPES];
+
+    private long lastSweepNanos = System.nanoTime();
+
+    public GitRepositoryCache() {
+        for (int i = 0; i < openLocks.length; i++) {
+            openLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns a Git handle on the repository at the given path, opening the repository if it isn't cached yet. The
+     * handle must be closed once the git operation is done.
+     */
+    public Git open(Path repoPath) throws IOException {
+        final Path key = repoPath.toAbsolutePath().normalize();
+
+        synchronized (openLocks[Math.floorMod(key.hashCode(), openLocks.length)]) {
+            final CachedRepository cachedRepository = acquire(key);
+            if (cachedRepository != null) {
+                final boolean isCurrent;
+                try {
+                    isCurrent = cachedRepository.isCurrent();
+                } catch (IOException e) {
+                    release(cachedRepository);
+                    throw e;
+                }
+                if (isCurrent) {
+                    return new CachedGit(cachedRepository);
+                }
+                // The repository was deleted or cloned again since it was opened
+                discard(key, cachedRepository);
+            }
+
+            final CachedRepository openedRepository = CachedRepository.open(key.toFile());
+            publish(key, openedRepository);
+            return new CachedGit(openedRepository);
+        }
+    }
+
+    /**
+     * Drops the cached repositories at or below the given path. Repositories still in use are closed once the last
+     * handle on them is closed.
+     */
+    public synchronized void invalidate(Path path) {
+        final Path prefix = path.toAbsolutePath().normalize();
+        Iterator<Map.Entry<Path, CachedRepository>> iterator = repositories.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, CachedRepository> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                iterator.remove();
+                retire(entry.getValue());
+            }
+        }
+    }
+
+    synchronized int size() {
+        return repositories.size();
+    }
+
+    /**
+     * Returns the cached repository with a reference held on it, or null if it isn't cached.
+     */
+    private synchronized CachedRepository acquire(Path key) {
+        sweepIdleRepositories();
+
+        final CachedRepository cachedRepository = repositories.get(key);
+        if (cachedRepository != null) {
+            cachedRepository.referenceCount++;
+        }
+        return cachedRepository;
+    }
+
+    /**
+     * Adds a newly opened repository to the cache, with a reference held on it.
+     */
+    private synchronized void publish(Path key, CachedRepository cachedRepository) {
+        cachedRepository.referenceCount++;
+        final CachedRepository previousRepository = repositories.put(key, cachedRepository);
+        if (previousRepository != null) {
+            retire(previousRepository);
+        }
+        evictOverflow();
+    }
+
+    /**
+     * Drops an acquired repository from the cache, unless it has been replaced already, and releases the reference.
+     */
+    private synchronized void discard(Path key, CachedRepository cachedRepository) {
+        if (repositories.remove(key, cachedRepository)) {
+            retire(cachedRepository);
+        }
+        release(cachedRepository);
+    }
+
+    private synchronized void release(CachedRepository cachedRepository) {
+        cachedRepository.referenceCount--;
+        cachedRepository.lastReleasedNanos = System.nanoTime();
+        if (cachedRepository.referenceCount == 0 && cachedRepository.retired) {
+            cachedRepository.repository.close();
+        }
+    }
+
+    private void retire(CachedRepository cachedRepository) {
+        cachedRepository.retired = true;
+        if (cachedRepository.referenceCount == 0) {
+            cachedRepository.repository.close();
+        }
+    }
+
+    private void sweepIdleRepositories() {
+        final long now = System.nanoTime();
+        if (now - lastSweepNanos < SWEEP_INTERVAL.toNanos()) {
+            return;
+        }
+        lastSweepNanos = now;
+
+        Iterator<CachedRepository> iterator = repositories.values().iterator();
+        while (iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next();
+            if (cachedRepository.referenceCount == 0
+                    && now - cachedRepository.lastReleasedNanos > MAX_IDLE_TIME.toNanos()) {
+                iterator.remove();
+                retire(cachedRepository);
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedRepository> iterator = repositories.values().iterator();
+        while (repositories.size() > MAX_REPOSITORIES && iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next();
+            // Repositories in use are left alone, the cache may grow past its size until they are released
+            if (cachedRepository.referenceCount == 0) {
+                iterator.remove();
+                retire(cachedRepository);
+            }
+        }
+    }
+
+    private static class CachedRepository {
+        private final Repository repository;
+        private final Path gitDir;
+        private final Object gitDirIdentity;
+
+        // These are guarded by the cache
+        private int referenceCount = 0;
+        private long lastReleasedNanos = System.nanoTime();
+        private boolean retired = false;
+
+        private CachedRepository(Repository repository, Path gitDir, Object gitDirIdentity) {
+            this.repository = repository;
+            this.gitDir = gitDir;
+            this.gitDirIdentity = gitDirIdentity;
+        }
+
+        /**
+         * Opens the repository the same way {@link Git#open(File)} does.
+         */
+        static CachedRepository open(File directory) throws IOException {
+            File gitDir = RepositoryCache.FileKey.lenient(directory, FS.DETECTED).getFile();
+            Repository repository = new RepositoryBuilder()
+                    .setFS(FS.DETECTED)
+                    .setGitDir(gitDir)
+                    .setMustExist(true)
+                    .build();
+            return new CachedRepository(repository, gitDir.toPath(), identityOf(gitDir.toPath()));
+        }
+
+        /**
+         * Tells whether the git directory on disk is still the one this repository was opened from.
+         */
+        boolean isCurrent() throws IOException {
+            try {
+                return Objects.equals(gitDirIdentity, identityOf(gitDir));
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+        }
+
+        private static Object identityOf(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            // Not every file system provides a file key, the creation time tells a re-created directory apart as well
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        }
+    }
+
+    private class CachedGit extends Git {
+        private final CachedRepository cachedRepository;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        CachedGit(CachedRepository cachedRepository) {
+            super(cachedRepository.repository);
+            this.cachedRepository = cachedRepository;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(cachedRepository);
+            }
+        }
+    }
+}
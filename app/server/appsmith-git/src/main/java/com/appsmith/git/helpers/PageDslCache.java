@@ -0,0 +1,92 @@
+package com.appsmith.git.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Keeps the nested DSL built for the pages read from the git repositories, so that a page whose files haven't changed
+ * on disk doesn't have to be parsed and assembled from its widget files all over again.
+ * <p>
+ * Every entry is stored along with a fingerprint of the files it was built from, see
+ * {@link #fingerprint(SortedMap)}. An entry is only returned for the fingerprint it was stored with, so a page is
+ * rebuilt as soon as any of its files is added, removed or rewritten, e.g. on checkout, pull or discard. Pages with a
+ * file modified too recently to be told apart from a later write are not stored, see {@link #isSettled}.
+ */
+public class PageDslCache {
+
+    // Coarsest modification time resolution among the filesystems the repositories may live on
+    private static final Duration MODIFIED_TIME_RESOLUTION = Duration.ofSeconds(2);
+
+    private final int maxEntries;
+
+    // Kept in access order, so that the least recently used pages are evicted first
+    private final Map<Path, Entry> entries;
+
+    public PageDslCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > PageDslCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the DSL stored for the page directory, or null if there is none or it was built from other files.
+     */
+    public synchronized String get(Path pageDirectory, String fingerprint) {
+        Entry entry = entries.get(pageDirectory.toAbsolutePath().normalize());
+        return entry != null && entry.fingerprint().equals(fingerprint) ? entry.dsl() : null;
+    }
+
+    public synchronized void put(Path pageDirectory, String fingerprint, String dsl) {
+        entries.put(pageDirectory.toAbsolutePath().normalize(), new Entry(fingerprint, dsl));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Computes a fingerprint out of the path, size, modification time and file key of every given file, without
+     * reading their content. Git replaces the files it updates in the working tree, so any change to the content of a
+     * page shows up in at least one of these.
+     */
+    public static String fingerprint(SortedMap<Path, BasicFileAttributes> files) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<Path, BasicFileAttributes> file : files.entrySet()) {
+                BasicFileAttributes attributes = file.getValue();
+                String line = file.getKey() + "|" + attributes.size() + "|"
+                        + attributes.lastModifiedTime().toMillis() + "|" + attributes.fileKey() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to compute page fingerprint", e);
+        }
+    }
+
+    /**
+     * Tells whether every given file was last modified more than the filesystem time resolution before now. A file
+     * rewritten in place with content of the same size within that window may keep its modification time, so a
+     * fingerprint of files that are not settled yet can't be trusted to change with their content.
+     */
+    public static boolean isSettled(SortedMap<Path, BasicFileAttributes> files, Instant now) {
+        Instant settledBefore = now.minus(MODIFIED_TIME_RESOLUTION);
+        return files.values().stream()
+                .allMatch(attributes -> attributes.lastModifiedTime().toInstant().isBefore(settledBefore));
+    }
+
+    private record Entry(String fingerprint, String dsl) {}
+}
@@ -15,6 +15,7 @@ import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
@@ -82,6 +83,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private final GitServiceConfig gitServiceConfig;
     private final GitConfig gitConfig;
+    private final GitRepositoryCache gitRepositoryCache;
 
     protected final ObservationRegistry observationRegistry;
 
@@ -118,7 +120,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
@@ -175,7 +177,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
@@ -228,7 +230,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .getIsAtomicPushAllowed()
                 .flatMap(isAtomicPushAllowed -> {
                     return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+                            () -> gitRepositoryCache.open(baseRepoPath),
                             git -> Mono.fromCallable(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
@@ -291,6 +293,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    gitRepositoryCache.invalidate(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -320,7 +323,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -350,7 +353,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -379,7 +382,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
@@ -419,7 +422,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
@@ -486,7 +489,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> gitRepositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
@@ -523,7 +526,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> gitRepositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -554,7 +557,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
@@ -794,7 +797,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
@@ -849,7 +852,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -889,7 +892,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
@@ -974,7 +977,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
@@ -1039,7 +1042,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
@@ -1049,7 +1052,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
@@ -1071,7 +1074,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
@@ -1105,7 +1108,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
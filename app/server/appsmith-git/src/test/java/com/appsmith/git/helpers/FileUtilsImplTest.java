@@ -9,7 +9,9 @@ import com.appsmith.git.files.operations.FileOperationsImpl;
 import com.appsmith.git.service.GitExecutorImpl;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +22,11 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,6 +40,10 @@ public class FileUtilsImplTest {
 
     private GitExecutorImpl gitExecutor;
 
+    private FileOperations fileOperations;
+
+    private GitRepositoryCache gitRepositoryCache;
+
     private static final String localTestDirectory = "localTestDirectory";
     private static final Path localTestDirectoryPath = Path.of(localTestDirectory);
 
@@ -42,9 +52,11 @@ public class FileUtilsImplTest {
         gitExecutor = Mockito.mock(GitExecutorImpl.class);
         GitServiceConfig gitServiceConfig = new GitServiceConfig();
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
-        FileOperations fileOperations =
+        fileOperations =
                 new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+        gitRepositoryCache = new GitRepositoryCache();
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP, gitRepositoryCache);
     }
 
     @AfterEach
@@ -162,6 +174,48 @@ public class FileUtilsImplTest {
         }
     }
 
+    @Test
+    public void writeToFile_whenContentIsUnchanged_fileIsNotRewritten() throws IOException {
+        Path resourcePath = localTestDirectoryPath.resolve("resource.json");
+        Files.createDirectories(localTestDirectoryPath);
+
+        fileOperations.writeToFile(Map.of("key", "value"), resourcePath);
+        FileTime lastModifiedTime = FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(resourcePath, lastModifiedTime);
+
+        fileOperations.writeToFile(Map.of("key", "value"), resourcePath);
+        Assertions.assertEquals(lastModifiedTime, Files.getLastModifiedTime(resourcePath));
+
+        fileOperations.writeToFile(Map.of("key", "updated value"), resourcePath);
+        Assertions.assertNotEquals(lastModifiedTime, Files.getLastModifiedTime(resourcePath));
+        Assertions.assertTrue(Files.readString(resourcePath).contains("updated value"));
+    }
+
+    @Test
+    public void deleteLocalRepo_whenRepositoryIsCached_evictsItFromCache() throws Exception {
+        Path repoSuffix = Path.of("workspaceId", "applicationId");
+        Path repoPath = localTestDirectoryPath.resolve(repoSuffix);
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        Repository cachedRepository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            cachedRepository = git.getRepository();
+        }
+        Assertions.assertEquals(1, gitRepositoryCache.size());
+
+        Assertions.assertTrue(fileUtils.deleteLocalRepo(repoSuffix).block());
+
+        Assertions.assertFalse(repoPath.toFile().exists());
+        Assertions.assertEquals(0, gitRepositoryCache.size());
+
+        // A repository created again at the same path is opened afresh instead of reusing the closed one
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            Assertions.assertNotSame(cachedRepository, git.getRepository());
+            Assertions.assertTrue(git.status().call().isClean());
+        }
+    }
+
     /**
      * This will delete localTestDirectory and its contents after the test is executed.
      */
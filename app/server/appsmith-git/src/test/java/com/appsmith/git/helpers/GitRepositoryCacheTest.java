@@ -0,0 +1,105 @@
+package com.appsmith.git.helpers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final GitRepositoryCache gitRepositoryCache = new GitRepositoryCache();
+
+    @Test
+    public void open_whenRepositoryIsOpenedAgain_reusesCachedRepository() throws Exception {
+        Path repoPath = tempDir.resolve("repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        Repository firstRepository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isSameAs(firstRepository);
+            assertThat(git.status().call().isClean()).isTrue();
+        }
+
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void open_whenOpenedConcurrently_opensRepositoryOnce() throws Exception {
+        Path repoPath = tempDir.resolve("repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Repository>> repositories = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                repositories.add(executor.submit(() -> {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
+                        return git.getRepository();
+                    }
+                }));
+            }
+
+            Repository firstRepository = repositories.get(0).get();
+            for (Future<Repository> repository : repositories) {
+                assertThat(repository.get()).isSameAs(firstRepository);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void open_whenRepositoryIsRecreated_opensNewRepository() throws Exception {
+        Path repoPath = tempDir.resolve("repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        Repository firstRepository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        FileSystemUtils.deleteRecursively(repoPath);
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(firstRepository);
+        }
+    }
+
+    @Test
+    public void invalidate_whenRepositoryIsInUse_keepsItOpenUntilReleased() throws Exception {
+        Path repoPath = tempDir.resolve("workspace").resolve("repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            gitRepositoryCache.invalidate(tempDir.resolve("workspace"));
+
+            assertThat(gitRepositoryCache.size()).isZero();
+            // The handle in use can still be used after the repository was dropped from the cache
+            assertThat(git.status().call().isClean()).isTrue();
+        }
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.status().call().isClean()).isTrue();
+        }
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+}
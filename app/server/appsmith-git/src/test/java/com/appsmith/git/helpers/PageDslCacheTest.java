@@ -0,0 +1,85 @@
+package com.appsmith.git.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageDslCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void get_whenPageFilesAreUnchanged_returnsCachedDsl() throws IOException {
+        Path page = tempDir.resolve("Page1");
+        Path widget = Files.createDirectories(page.resolve("widgets")).resolve("Text1.json");
+        Files.writeString(widget, "{\"widgetName\":\"Text1\"}");
+
+        PageDslCache pageDslCache = new PageDslCache(10);
+        pageDslCache.put(page, PageDslCache.fingerprint(attributesOf(widget)), "dsl");
+
+        assertThat(pageDslCache.get(page, PageDslCache.fingerprint(attributesOf(widget))))
+                .isEqualTo("dsl");
+    }
+
+    @Test
+    public void get_whenPageFileIsRewritten_returnsNull() throws IOException {
+        Path page = tempDir.resolve("Page1");
+        Path widget = Files.createDirectories(page.resolve("widgets")).resolve("Text1.json");
+        Files.writeString(widget, "{\"widgetName\":\"Text1\"}");
+        Files.setLastModifiedTime(widget, FileTime.fromMillis(1_000_000L));
+
+        PageDslCache pageDslCache = new PageDslCache(10);
+        pageDslCache.put(page, PageDslCache.fingerprint(attributesOf(widget)), "dsl");
+
+        Files.writeString(widget, "{\"widgetName\":\"Text2\"}");
+        Files.setLastModifiedTime(widget, FileTime.fromMillis(2_000_000L));
+
+        assertThat(pageDslCache.get(page, PageDslCache.fingerprint(attributesOf(widget))))
+                .isNull();
+    }
+
+    @Test
+    public void isSettled_whenPageFileWasJustModified_returnsFalse() throws IOException {
+        Path widget = Files.createDirectories(tempDir.resolve("Page1").resolve("widgets"))
+                .resolve("Text1.json");
+        Files.writeString(widget, "{\"widgetName\":\"Text1\"}");
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(widget, FileTime.from(now.minusMillis(500)));
+
+        assertThat(PageDslCache.isSettled(attributesOf(widget), now)).isFalse();
+
+        Files.setLastModifiedTime(widget, FileTime.from(now.minusSeconds(10)));
+
+        assertThat(PageDslCache.isSettled(attributesOf(widget), now)).isTrue();
+    }
+
+    @Test
+    public void put_whenCacheIsFull_evictsLeastRecentlyUsedPage() {
+        PageDslCache pageDslCache = new PageDslCache(2);
+        pageDslCache.put(tempDir.resolve("Page1"), "fingerprint", "dsl1");
+        pageDslCache.put(tempDir.resolve("Page2"), "fingerprint", "dsl2");
+        pageDslCache.get(tempDir.resolve("Page1"), "fingerprint");
+        pageDslCache.put(tempDir.resolve("Page3"), "fingerprint", "dsl3");
+
+        assertThat(pageDslCache.size()).isEqualTo(2);
+        assertThat(pageDslCache.get(tempDir.resolve("Page1"), "fingerprint")).isEqualTo("dsl1");
+        assertThat(pageDslCache.get(tempDir.resolve("Page2"), "fingerprint")).isNull();
+    }
+
+    private static SortedMap<Path, BasicFileAttributes> attributesOf(Path file) throws IOException {
+        SortedMap<Path, BasicFileAttributes> attributes = new TreeMap<>();
+        attributes.put(file, Files.readAttributes(file, BasicFileAttributes.class));
+        return attributes;
+    }
+}
@@ -0,0 +1,137 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query response while its rows are being read, so that plugins can stop
+ * reading as soon as the response grows past the supported size.
+ * <p>
+ * Sizes are estimated as the number of characters the rows would take when serialized to JSON. Each value is only
+ * looked at once, which keeps the cost of the check linear in the size of the result.
+ */
+@Getter
+public class ResultSizeAccountant {
+
+    private static final int NULL_SIZE = 4;
+    private static final int NUMBER_SIZE = 8;
+    private static final int BOOLEAN_SIZE = 5;
+
+    // Quotes around a key, the colon after it and the comma separating it from the next entry
+    private static final int ENTRY_OVERHEAD = 4;
+
+    private final long maxSize;
+    private long size = 0;
+
+    public ResultSizeAccountant(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of a row to the running total.
+     *
+     * @return true if the total is still within the supported size
+     */
+    public boolean addRow(Map<String, Object> row) {
+        size += estimateSize(row);
+        return !isLimitExceeded();
+    }
+
+    public boolean isLimitExceeded() {
+        return size > maxSize;
+    }
+
+    /**
+     * Returns the supported size in MB, as shown in the response size error messages of the plugins.
+     */
+    public float getMaxSizeInMb() {
+        return (float) (maxSize / (1024 * 1024));
+    }
+
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            return charSequence.length() + 2L;
+        }
+
+        if (value instanceof Number) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long total = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                total += String.valueOf(entry.getKey()).length() + ENTRY_OVERHEAD + estimateSize(entry.getValue());
+            }
+            return total;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long total = 2;
+            for (Object element : collection) {
+                total += estimateSize(element) + 1;
+            }
+            return total;
+        }
+
+        if (value instanceof Object[] array) {
+            long total = 2;
+            for (Object element : array) {
+                total += estimateSize(element) + 1;
+            }
+            return total;
+        }
+
+        if (value instanceof byte[] bytes) {
+            // Binary values are sent as base64 strings
+            return (bytes.length + 2L) / 3 * 4 + 2;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateSize(jsonNode);
+        }
+
+        return String.valueOf(value).length() + 2L;
+    }
+
+    private static long estimateSize(JsonNode node) {
+        if (node.isObject()) {
+            long total = 2;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                total += field.getKey().length() + ENTRY_OVERHEAD + estimateSize(field.getValue());
+            }
+            return total;
+        }
+
+        if (node.isArray()) {
+            long total = 2;
+            for (JsonNode element : node) {
+                total += estimateSize(element) + 1;
+            }
+            return total;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isNumber()) {
+            return NUMBER_SIZE;
+        }
+
+        return node.asText().length() + 2L;
+    }
+}
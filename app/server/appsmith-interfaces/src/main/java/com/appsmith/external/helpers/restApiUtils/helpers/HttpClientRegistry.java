@@ -0,0 +1,146 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the HttpClients used by the REST API and GraphQL plugins, so that API calls made with the same connection
+ * settings share a connection pool and reuse warm connections instead of paying for new TCP and TLS handshakes on
+ * every execution.
+ * <p>
+ * A ConnectionProvider keeps a separate pool for every remote address, so clients only need to be told apart by the
+ * settings that change how a connection is established: the HTTP version and the certificate trusted over SSL.
+ */
+@Slf4j
+public class HttpClientRegistry {
+
+    private static final String PROVIDER_NAME = "rest-api-provider";
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 500;
+    private static final int MAX_PENDING_ACQUIRES_PER_HOST = 1000;
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    // The pool of a remote address that has had no connections for this long is disposed, so that hosts called once
+    // don't keep a pool around for the lifetime of the client
+    private static final Duration POOL_INACTIVITY = Duration.ofMinutes(5);
+
+    // Upper bound on the number of distinct connection settings that keep a pool around
+    private static final int MAX_CLIENTS = 256;
+
+    // Connections of an evicted client may still be serving requests, so it is only disposed after this delay
+    private static final Duration EVICTED_CLIENT_DISPOSE_DELAY = Duration.ofMinutes(5);
+
+    // The pool metrics are tagged by remote address, and remote addresses are chosen by users, so they are opt-in
+    private static final boolean IS_POOL_METRICS_ENABLED =
+            "true".equalsIgnoreCase(System.getenv("APPSMITH_REST_API_POOL_METRICS_ENABLED"))
+                    && ClassUtils.isPresent(
+                            "io.micrometer.core.instrument.Metrics", HttpClientRegistry.class.getClassLoader());
+
+    private static final HttpClientRegistry INSTANCE = new HttpClientRegistry();
+
+    private final Map<ClientKey, PooledClient> clients =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ClientKey, PooledClient> eldest) {
+                    if (size() <= MAX_CLIENTS) {
+                        return false;
+                    }
+                    log.debug("Evicting HTTP client for {}", eldest.getKey().httpProtocol());
+                    Mono.delay(EVICTED_CLIENT_DISPOSE_DELAY)
+                            .then(eldest.getValue().provider().disposeLater())
+                            .subscribe();
+                    return true;
+                }
+            });
+
+    private HttpClientRegistry() {}
+
+    public static HttpClientRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the shared HttpClient for the given connection settings, creating it on first use.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        if (httpProtocol == null) {
+            httpProtocol = HttpProtocol.HTTP11;
+        }
+
+        final ClientKey key = new ClientKey(httpProtocol, getTrustedCertificate(datasourceConfiguration));
+        return clients.computeIfAbsent(key, k -> createClient(k, datasourceConfiguration)).httpClient();
+    }
+
+    private static PooledClient createClient(ClientKey key, DatasourceConfiguration datasourceConfiguration) {
+        final ConnectionProvider.Builder providerBuilder = ConnectionProvider.builder(PROVIDER_NAME)
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .disposeInactivePoolsInBackground(EVICTION_INTERVAL, POOL_INACTIVITY);
+
+        if (IS_POOL_METRICS_ENABLED) {
+            // Publishes the reactor.netty.connection.provider.* gauges, tagged by provider name and remote address
+            providerBuilder.metrics(true);
+        }
+
+        final ConnectionProvider provider = providerBuilder.build();
+
+        // HTTP/2 is negotiated with the server, falling back to HTTP/1.1 when the server doesn't support it. Requests
+        // to the same host are then multiplexed over a single connection.
+        final HttpProtocol[] protocols = HttpProtocol.H2.equals(key.httpProtocol())
+                ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[] {key.httpProtocol()};
+
+        // The SSL configuration is applied once here. Applying it per request would create a new SslProvider every
+        // time, which the ConnectionProvider treats as a different pool.
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(protocols)
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+
+        return new PooledClient(provider, httpClient);
+    }
+
+    /**
+     * Returns the content of the self-signed certificate trusted for this datasource, or null if the default trust
+     * store is used. This mirrors the checks made in {@link SSLHelper#sslCheckForHttpClient(DatasourceConfiguration)}.
+     */
+    private static String getTrustedCertificate(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration == null
+                || datasourceConfiguration.getConnection() == null
+                || datasourceConfiguration.getConnection().getSsl() == null) {
+            return null;
+        }
+
+        final SSLDetails ssl = datasourceConfiguration.getConnection().getSsl();
+        if (ssl.getAuthType() != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return null;
+        }
+
+        if (ssl.getCertificateFile() == null || ssl.getCertificateFile().getBase64Content() == null) {
+            return "";
+        }
+
+        return ssl.getCertificateFile().getBase64Content();
+    }
+
+    private record ClientKey(HttpProtocol httpProtocol, String trustedCertificate) {}
+
+    private record PooledClient(ConnectionProvider provider, HttpClient httpClient) {}
+}
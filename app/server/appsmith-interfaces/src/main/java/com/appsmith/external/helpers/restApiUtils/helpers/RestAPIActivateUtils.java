@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -11,13 +10,14 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -28,21 +28,19 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -73,107 +71,130 @@ public class RestAPIActivateUtils {
             ActionExecutionResult errorResult,
             RequestCaptureFilter requestCaptureFilter,
             DatasourceConfiguration datasourceConfiguration) {
-        return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                    /*
-                       Find the media type of the response to parse the body as required. In case the content-type
-                       header is not present in the response then set it to our default i.e. "text/plain" although
-                       the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                       it's not present in response header.
-                    */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
-
-                    // Set the request fields
-                    boolean isBodySentWithApiRequest = requestBody == null ? false : true;
-                    result.setRequest(requestCaptureFilter.populateRequestFields(
-                            actionExecutionRequest, isBodySentWithApiRequest, datasourceConfiguration));
-
-                    result.setStatusCode(statusCode.toString());
-
-                    // if something has moved permanently should we mark it as an execution failure?
-                    // here marking a redirection as an execution success if the url has moved permanently without a
-                    // forwarding Location
-                    boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
-                    result.setIsExecutionSuccess(isExecutionSuccess);
-
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
+        return httpCall(client, httpMethod, uri, requestBody, 0).flatMap(clientResponse -> clientResponse
+                // The response body is collected as the data buffers received from the network, joined without
+                // being copied. The decoder enforces the configured max in memory size while the body streams in.
+                .bodyToMono(DataBuffer.class)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(body -> {
                     try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
+                        return buildActionExecutionResult(
+                                clientResponse.statusCode(),
+                                clientResponse.headers().asHttpHeaders(),
+                                body.orElse(null),
+                                requestBody,
+                                actionExecutionRequest,
+                                objectMapper,
+                                hintMessages,
+                                requestCaptureFilter,
+                                datasourceConfiguration);
+                    } finally {
+                        body.ifPresent(DataBufferUtils::release);
                     }
+                }));
+    }
 
-                    // Set headers in the result now
-                    try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
-                    }
+    private ActionExecutionResult buildActionExecutionResult(
+            HttpStatusCode statusCode,
+            HttpHeaders headers,
+            DataBuffer body,
+            Object requestBody,
+            ActionExecutionRequest actionExecutionRequest,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages,
+            RequestCaptureFilter requestCaptureFilter,
+            DatasourceConfiguration datasourceConfiguration) {
+        /*
+           Find the media type of the response to parse the body as required. In case the content-type
+           header is not present in the response then set it to our default i.e. "text/plain" although
+           the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+           it's not present in response header.
+        */
+        MediaType contentType = headers.getContentType();
+        if (contentType == null) {
+            contentType = MediaType.TEXT_PLAIN;
+        }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
+        ActionExecutionResult result = new ActionExecutionResult();
+
+        // Set the request fields
+        boolean isBodySentWithApiRequest = requestBody == null ? false : true;
+        result.setRequest(requestCaptureFilter.populateRequestFields(
+                actionExecutionRequest, isBodySentWithApiRequest, datasourceConfiguration));
+
+        result.setStatusCode(statusCode.toString());
+
+        // if something has moved permanently should we mark it as an execution failure?
+        // here marking a redirection as an execution success if the url has moved permanently without a
+        // forwarding Location
+        boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
+        result.setIsExecutionSuccess(isExecutionSuccess);
+
+        // Convert the headers into a json tree to store in the results, each header maps to its list of values
+        ObjectNode headersObjectNode = objectMapper.createObjectNode();
+        headers.forEach((name, values) -> {
+            ArrayNode valuesNode = headersObjectNode.putArray(name);
+            values.forEach(valuesNode::add);
+        });
+        result.setHeaders(headersObjectNode);
+
+        if (body != null) {
+
+            ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
+
+            /**TODO
+             * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+             * are kept as is and returned as a string.
+             */
+            if (contentType.includes(MediaType.APPLICATION_JSON)) {
+                final int bodyStart = body.readPosition();
+                final int bodyLength = body.readableByteCount();
+                try {
+                    // Parse the JSON straight off the received buffers, without copying the body into a string. The
+                    // body is parsed once it has been fully received, since an invalid body is returned as is.
+                    result.setBody(objectMapper.readTree(body.asInputStream()));
+                    responseDataType = ResponseDataType.JSON;
+                } catch (IOException e) {
+                    System.out.println("Unable to parse response JSON. Setting response body as string.");
+                    String bodyString = body.toString(bodyStart, bodyLength, StandardCharsets.UTF_8);
+                    result.setBody(bodyString.trim());
+
+                    // Warn user that the API response is not a valid JSON.
+                    hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                            + "be careful when using the API response anywhere a valid JSON is required"
+                            + ". You may resolve this issue either by modifying the 'Content-Type' "
+                            + "Header to indicate a non-JSON response or by modifying the API response "
+                            + "to return a valid JSON.");
+                }
+            } else if (MediaType.IMAGE_GIF.equals(contentType)
+                    || MediaType.IMAGE_JPEG.equals(contentType)
+                    || MediaType.IMAGE_PNG.equals(contentType)) {
+                result.setBody(encodeToBase64(body));
+                responseDataType = ResponseDataType.IMAGE;
+
+            } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                result.setBody(encodeToBase64(body));
+                responseDataType = ResponseDataType.BINARY;
+            } else {
+                // If the body is not of JSON type, just set it as is.
+                String bodyString = body.toString(StandardCharsets.UTF_8);
+                result.setBody(bodyString.trim());
+                responseDataType = ResponseDataType.TEXT;
+            }
+
+            // Now add a new header which specifies the data type of the response as per Appsmith
+            headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
+        }
 
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-                    }
+        result.setMessages(hintMessages);
+        return result;
+    }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+    private static String encodeToBase64(DataBuffer body) {
+        byte[] bytes = new byte[body.readableByteCount()];
+        body.read(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
     }
 
     protected Mono<ClientResponse> httpCall(
@@ -302,20 +323,7 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
-        if (httpProtocol == null) {
-            httpProtocol = HttpProtocol.HTTP11;
-        }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Clients are shared across executions, so that calls to the same host reuse pooled connections
+        return HttpClientRegistry.getInstance().getHttpClient(datasourceConfiguration, httpProtocol);
     }
 }
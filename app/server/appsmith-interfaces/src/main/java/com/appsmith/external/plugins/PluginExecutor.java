@@ -18,6 +18,7 @@ import io.micrometer.observation.ObservationRegistry;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
@@ -247,6 +248,36 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Returns true if the plugin can stream the rows of a query result through
+     * {@link #executeParameterizedStreaming(Object, ExecuteActionDTO, DatasourceConfiguration, ActionConfiguration)}
+     * instead of collecting the whole result into an {@link ActionExecutionResult} first.
+     */
+    default boolean isStreamingSupported() {
+        return false;
+    }
+
+    /**
+     * Executes the action and emits its result one row at a time. The first element emitted is the list of column
+     * names, every element after that holds the values of a single row in the same column order. Any resource used by
+     * the execution is released when the returned Flux terminates or is cancelled.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param executeActionDTO        : This is the data structure sent by the client during execute.
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of the column names followed by the rows of the result.
+     */
+    default Flux<List<Object>> executeParameterizedStreaming(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration) {
+        return Flux.error(new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                "Streaming execution is not supported by this plugin"));
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
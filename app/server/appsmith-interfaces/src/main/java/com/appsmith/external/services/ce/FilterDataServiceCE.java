@@ -16,12 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.h2.jdbc.JdbcSQLSyntaxErrorException;
+import org.h2.jdbcx.JdbcConnectionPool;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -52,9 +52,16 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
+    private final JdbcConnectionPool connectionPool;
 
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
+    // DB_CLOSE_DELAY=-1 keeps the in memory database alive while no connection of the pool is open
+    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    // Concurrent filter requests each work on their own connection, up to this many at a time
+    private static final int MAX_CONNECTIONS = 32;
+
+    // Number of rows sent to the in memory database in a single insert batch
+    private static final int INSERT_BATCH_SIZE = 1000;
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
@@ -100,8 +107,11 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
 
-        try {
-            connection = DriverManager.getConnection(URL);
+        connectionPool = JdbcConnectionPool.create(URL, "", "");
+        connectionPool.setMaxConnections(MAX_CONNECTIONS);
+
+        try (Connection ignored = connectionPool.getConnection()) {
+            log.debug("Connected to the in memory filtering database");
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new AppsmithPluginException(
@@ -134,17 +144,31 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
+        List<Map<String, Object>> finalResults;
+
+        // The whole create, insert, filter and drop cycle runs on a single pooled connection so that concurrent
+        // filter requests don't wait on each other
+        try (Connection conn = getConnection()) {
+            String tableName = generateTable(conn, schema);
 
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+            try {
+                // insert the data
+                insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+                // Filter the data
+                finalResults =
+                        executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+            } finally {
+                // Now that the data has been filtered. Clean Up. Drop the table
+                dropTable(conn, tableName);
+            }
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Failed to release the connection to the filtering database : " + e.getMessage());
+        }
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
@@ -152,6 +176,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private List<Map<String, Object>> executeFilterQueryNew(
+            Connection conn,
             String tableName,
             Map<String, DataType> schema,
             UQIDataFilterParams uqiDataFilterParams,
@@ -162,8 +187,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -369,99 +392,78 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             ArrayNode items,
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
+        try (Connection conn = getConnection()) {
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
 
         List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
 
         List<String> quotedColumnNames =
                 columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
 
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
-
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
-
         // In order data types of all the columns
         List<DataType> columnTypes = new ArrayList<>();
         for (String columnName : columnNames) {
             columnTypes.add(schema.get(columnName));
         }
 
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
+        String placeholders = String.join(", ", columnNames.stream().map(name -> "?").toList());
+        String insertQuery = "INSERT INTO " + tableName + "(" + String.join(", ", quotedColumnNames) + ") VALUES ("
+                + placeholders + ");";
 
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
+        // The insert statement is prepared once and every row is added to a batch, which is sent to the database
+        // every INSERT_BATCH_SIZE rows
+        try (PreparedStatement preparedStatement = conn.prepareStatement(insertQuery)) {
+            int counter = 0;
 
-        for (JsonNode item : items) {
+            for (JsonNode item : items) {
+                for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+                    JsonNode fieldNode = item.get(columnNames.get(columnIndex));
 
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+                    // A field missing in this row is stored as null, the same as an empty value
+                    String value = fieldNode == null ? "" : fieldNode.asText();
+                    setValueInStatement(
+                            preparedStatement,
+                            columnIndex + 1,
+                            value,
+                            columnTypes.get(columnIndex),
+                            dataTypeConversionMap);
                 }
 
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                preparedStatement.addBatch();
+                counter++;
+
+                if (counter == INSERT_BATCH_SIZE) {
+                    preparedStatement.executeBatch();
+                    counter = 0;
                 }
             }
 
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
-        }
+            if (counter > 0) {
+                preparedStatement.executeBatch();
+            }
 
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error in ingesting the data : " + e.getMessage());
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -473,62 +475,26 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
-
+    private Connection getConnection() {
+        try {
+            return connectionPool.getConnection();
         } catch (SQLException e) {
-            e.printStackTrace();
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
+                    "Failed to connect to the filtering database");
         }
     }
 
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
+    public String generateTable(Map<String, DataType> schema) {
+        try (Connection conn = getConnection()) {
+            return generateTable(conn, schema);
         } catch (SQLException e) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the filtering database");
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
         }
-
-        return connection;
     }
 
-    public String generateTable(Map<String, DataType> schema) {
+    private String generateTable(Connection conn, Map<String, DataType> schema) {
 
         // Generate table name
         String generateUniqueId = RandomStringUtils.randomAlphabetic(16).toUpperCase();
@@ -570,16 +536,25 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
     }
 
     public void dropTable(String tableName) {
+        try (Connection conn = getConnection()) {
+            dropTable(conn, tableName);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private void dropTable(Connection conn, String tableName) {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultSizeAccountantTest {
+
+    @Test
+    public void estimateSize_isCloseToSerializedJsonSize() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("name", "Appsmith");
+        row.put("tags", List.of("a", "b", "c"));
+        row.put("address", null);
+        row.put("active", true);
+
+        long serializedSize = new ObjectMapper().writeValueAsString(row).length();
+        long estimatedSize = ResultSizeAccountant.estimateSize(row);
+
+        assertThat(estimatedSize).isBetween(serializedSize, serializedSize * 2);
+    }
+
+    @Test
+    public void estimateSize_ofJsonNode_countsNestedValues() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = "{\"key\":\"value\",\"nested\":{\"list\":[1,2,3],\"text\":\"some longer text\"}}";
+
+        long estimatedSize = ResultSizeAccountant.estimateSize(objectMapper.readTree(json));
+
+        assertThat(estimatedSize).isGreaterThanOrEqualTo(json.length());
+    }
+
+    @Test
+    public void addRow_whenLimitIsCrossed_reportsLimitExceeded() {
+        ResultSizeAccountant resultSizeAccountant = new ResultSizeAccountant(100);
+        Map<String, Object> row = Map.of("column", "0123456789");
+
+        int rowsAdded = 0;
+        while (resultSizeAccountant.addRow(row)) {
+            rowsAdded++;
+        }
+
+        assertThat(rowsAdded).isGreaterThan(0);
+        assertThat(resultSizeAccountant.isLimitExceeded()).isTrue();
+        assertThat(resultSizeAccountant.getSize()).isGreaterThan(100);
+    }
+}
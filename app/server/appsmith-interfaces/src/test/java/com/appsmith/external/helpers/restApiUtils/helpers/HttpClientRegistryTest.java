@@ -0,0 +1,51 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpClientRegistryTest {
+
+    private final HttpClientRegistry httpClientRegistry = HttpClientRegistry.getInstance();
+
+    @Test
+    public void getHttpClient_withSameSettings_returnsSameClient() {
+        DatasourceConfiguration firstDatasource = new DatasourceConfiguration();
+        firstDatasource.setUrl("https://example.com");
+        DatasourceConfiguration secondDatasource = new DatasourceConfiguration();
+        secondDatasource.setUrl("https://another.example.com");
+
+        HttpClient firstClient = httpClientRegistry.getHttpClient(firstDatasource, HttpProtocol.HTTP11);
+        HttpClient secondClient = httpClientRegistry.getHttpClient(secondDatasource, null);
+
+        assertThat(secondClient).isSameAs(firstClient);
+    }
+
+    @Test
+    public void getHttpClient_withDifferentProtocolOrCertificate_returnsDifferentClients() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+        DatasourceConfiguration selfSignedDatasource = new DatasourceConfiguration();
+        Connection connection = new Connection();
+        SSLDetails ssl = new SSLDetails();
+        ssl.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        ssl.setCertificateFile(new UploadedFile("certificate.pem", "Y2VydGlmaWNhdGU="));
+        connection.setSsl(ssl);
+        selfSignedDatasource.setConnection(connection);
+
+        HttpClient http11Client = httpClientRegistry.getHttpClient(datasourceConfiguration, HttpProtocol.HTTP11);
+        HttpClient h2Client = httpClientRegistry.getHttpClient(datasourceConfiguration, HttpProtocol.H2);
+        HttpClient selfSignedClient = httpClientRegistry.getHttpClient(selfSignedDatasource, HttpProtocol.HTTP11);
+
+        assertThat(h2Client).isNotSameAs(http11Client);
+        assertThat(selfSignedClient).isNotSameAs(http11Client);
+        assertThat(httpClientRegistry.getHttpClient(selfSignedDatasource, HttpProtocol.HTTP11))
+                .isSameAs(selfSignedClient);
+    }
+}
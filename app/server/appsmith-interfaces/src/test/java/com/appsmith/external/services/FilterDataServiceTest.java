@@ -15,6 +15,9 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1336,4 +1339,46 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataNew_withMissingFieldsAndConcurrentRequests() throws Exception {
+        String data = "[\n" + "  {\n"
+                + "    \"id\": 1,\n"
+                + "    \"userName\": \"Michael Lawson\",\n"
+                + "    \"orderAmount\": 4.99\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 2,\n"
+                + "    \"orderAmount\": 9.99\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 3,\n"
+                + "    \"userName\": \"Tobias Funke\",\n"
+                + "    \"orderAmount\": 19.99\n"
+                + "  }\n"
+                + "]";
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ArrayNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    Condition condition = new Condition("orderAmount", "LT", "10");
+                    Condition whereCondition = new Condition(null, ConditionalOperator.AND, List.of(condition), null);
+                    return filterDataService.filterDataNew(
+                            items.deepCopy(), new UQIDataFilterParams(whereCondition, null, null, null));
+                }));
+            }
+
+            for (Future<ArrayNode> future : futures) {
+                ArrayNode filteredData = future.get();
+                assertEquals(2, filteredData.size());
+                assertEquals("", filteredData.get(1).get("userName").asText());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -7,6 +7,9 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
@@ -14,7 +17,6 @@ import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -50,14 +52,18 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -89,8 +95,11 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
+import static com.external.plugins.constants.FieldName.LIST_PARALLEL;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_SORT;
@@ -98,6 +107,8 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE_END;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
@@ -105,9 +116,13 @@ import static com.external.plugins.constants.S3PluginConstants.BASE64_DELIMITER;
 import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.LIST_PARTITION_CONCURRENCY;
+import static com.external.plugins.constants.S3PluginConstants.LIST_PARTITION_DELIMITER;
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_CONCURRENCY;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
@@ -197,9 +212,123 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists the same files as listAllFilesInBucket, in the same order.
+         * - The files right under the prefix are listed along with the next level of "directories" first, and then
+         *   every directory is listed on its own, a few of them at a time.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        ArrayList<String> listAllFilesInBucketConcurrently(AmazonS3 connection, String bucketName, String prefix)
+                throws AppsmithPluginException {
+            if (connection == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.CONNECTIVITY_ERROR_MSG);
+            }
+
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withDelimiter(LIST_PARTITION_DELIMITER);
+            List<String> directFiles = new ArrayList<>();
+            List<String> partitionPrefixes = new ArrayList<>();
+            ListObjectsV2Result result;
+            do {
+                result = connection.listObjectsV2(request);
+                directFiles.addAll(getFilenamesFromListObjectsResult(result));
+                partitionPrefixes.addAll(result.getCommonPrefixes());
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+
+            List<List<String>> partitions = Flux.fromIterable(partitionPrefixes)
+                    .flatMapSequential(
+                            partitionPrefix -> Mono.fromCallable(
+                                            () -> listAllFilesInBucket(connection, bucketName, partitionPrefix))
+                                    .subscribeOn(scheduler),
+                            LIST_PARTITION_CONCURRENCY)
+                    .collectList()
+                    .block();
+
+            /*
+             * - S3 returns the direct files and the common prefixes in lexicographic order each. A direct file can't
+             *   start with any of the prefixes, so it sorts either before or after all the files of a partition.
+             */
+            ArrayList<String> fileList = new ArrayList<>();
+            int fileIndex = 0;
+            for (int partitionIndex = 0; partitionIndex < partitionPrefixes.size(); partitionIndex++) {
+                String partitionPrefix = partitionPrefixes.get(partitionIndex);
+                while (fileIndex < directFiles.size()
+                        && directFiles.get(fileIndex).compareTo(partitionPrefix) < 0) {
+                    fileList.add(directFiles.get(fileIndex++));
+                }
+                fileList.addAll(partitions.get(partitionIndex));
+            }
+            fileList.addAll(directFiles.subList(fileIndex, directFiles.size()));
+
+            return fileList;
+        }
+
+        /*
+         * - Lists a single page of files, starting after the given continuation token if there is one.
+         * - The next continuation token of the returned result is null once the last page has been listed.
+         */
+        ListObjectsV2Result listFilesPageInBucket(
+                AmazonS3 connection, String bucketName, String prefix, int pageSize, String continuationToken)
+                throws AppsmithPluginException {
+            if (connection == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.CONNECTIVITY_ERROR_MSG);
+            }
+
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMaxKeys(pageSize);
+            if (!StringUtils.isNullOrEmpty(continuationToken)) {
+                request.setContinuationToken(continuationToken);
+            }
+
+            ListObjectsV2Result result = connection.listObjectsV2(request);
+            if (result == null) {
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
+            }
+            return result;
+        }
+
+        List<String> getFilenamesFromListObjectsResult(ListObjectsV2Result result) {
+            return result.getObjectSummaries().stream()
+                    .map(S3ObjectSummary::getKey)
+                    .collect(Collectors.toList());
+        }
+
+        /*
+         * - Signing a URL is done locally, without calling S3. Large lists of files are signed in batches on a few
+         *   threads at a time, the order of the urls matches the order of the files.
+         */
         ArrayList<String> getSignedUrls(
                 AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+            if (listOfFiles.size() <= SIGNED_URL_BATCH_SIZE) {
+                return getSignedUrlsForBatch(connection, bucketName, listOfFiles, expiryDateTime);
+            }
+
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
+            Flux.fromIterable(listOfFiles)
+                    .buffer(SIGNED_URL_BATCH_SIZE)
+                    .flatMapSequential(
+                            batch -> Mono.fromCallable(
+                                            () -> getSignedUrlsForBatch(connection, bucketName, batch, expiryDateTime))
+                                    .subscribeOn(scheduler),
+                            SIGNED_URL_BATCH_CONCURRENCY)
+                    .doOnNext(urlList::addAll)
+                    .blockLast();
+
+            return urlList;
+        }
+
+        private ArrayList<String> getSignedUrlsForBatch(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
 
             for (String filePath : listOfFiles) {
                 GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
@@ -383,18 +512,69 @@ public class AmazonS3Plugin extends BasePlugin {
          * - Exception thrown here needs to be handled by the caller.
          */
         String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
+            return readFile(connection, bucketName, path, encodeContent, null, null);
+        }
 
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
+        /*
+         * - Reads the given byte range of the file, both ends included, or the whole file if no range is given.
+         * - The content is encoded while it is streamed from S3, so that the raw bytes of the file are never held in
+         *   memory along with their Base64 encoding.
+         * - Exception thrown here needs to be handled by the caller.
+         */
+        String readFile(
+                AmazonS3 connection,
+                String bucketName,
+                String path,
+                Boolean encodeContent,
+                Long rangeStart,
+                Long rangeEnd)
+                throws IOException {
+            S3Object fullObject;
+            if (rangeStart == null && rangeEnd == null) {
+                fullObject = connection.getObject(bucketName, path);
             } else {
-                result = new String(bytes);
+                GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+                long start = rangeStart == null ? 0 : rangeStart;
+                if (rangeEnd == null) {
+                    getObjectRequest.setRange(start);
+                } else {
+                    getObjectRequest.setRange(start, rangeEnd);
+                }
+                fullObject = connection.getObject(getObjectRequest);
             }
 
-            return result;
+            ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+            long contentLength = objectMetadata == null ? 0 : objectMetadata.getContentLength();
+
+            // Closing the stream releases the connection to S3 once the content has been read
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                if (Boolean.TRUE.equals(encodeContent)) {
+                    // Base64 takes 4 bytes for every 3 bytes of content
+                    long encodedLength = 4 * ((contentLength + 2) / 3);
+                    ByteArrayOutputStream encodedContent =
+                            new ByteArrayOutputStream((int) Math.min(encodedLength, Integer.MAX_VALUE - 8));
+                    try (OutputStream encoder = Base64.getEncoder().wrap(encodedContent)) {
+                        content.transferTo(encoder);
+                    }
+                    return encodedContent.toString(StandardCharsets.US_ASCII);
+                }
+
+                return new String(content.readAllBytes());
+            }
+        }
+
+        /*
+         * - Returns null if no bound is given, throws NumberFormatException if it isn't a non-negative number.
+         */
+        Long parseByteRangeBound(String bound) {
+            if (StringUtils.isNullOrEmpty(bound) || bound.isBlank()) {
+                return null;
+            }
+            long value = Long.parseLong(bound.trim());
+            if (value < 0) {
+                throw new NumberFormatException("Byte range bound cannot be negative: " + bound);
+            }
+            return value;
         }
 
         @Override
@@ -540,7 +720,39 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                String pageSizeString =
+                                        getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE, "");
+                                boolean isPageRequested = !StringUtils.isNullOrEmpty(pageSizeString);
+                                String nextContinuationToken = null;
+
+                                ArrayList<String> listOfFiles;
+                                if (isPageRequested) {
+                                    int pageSize;
+                                    try {
+                                        pageSize = Integer.parseInt(pageSizeString);
+                                    } catch (NumberFormatException e) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG,
+                                                e.getMessage()));
+                                    }
+                                    String continuationToken = getDataValueSafelyFromFormData(
+                                            formData, LIST_CONTINUATION_TOKEN, STRING_TYPE, "");
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+                                    requestParams.add(new RequestParamDTO(
+                                            LIST_CONTINUATION_TOKEN, continuationToken, null, null, null));
+
+                                    ListObjectsV2Result page = listFilesPageInBucket(
+                                            connection, bucketName, prefix, pageSize, continuationToken);
+                                    listOfFiles = new ArrayList<>(getFilenamesFromListObjectsResult(page));
+                                    nextContinuationToken = page.getNextContinuationToken();
+                                } else if (YES.equals(
+                                        getDataValueSafelyFromFormData(formData, LIST_PARALLEL, STRING_TYPE))) {
+                                    requestParams.add(new RequestParamDTO(LIST_PARALLEL, YES, null, null, null));
+                                    listOfFiles = listAllFilesInBucketConcurrently(connection, bucketName, prefix);
+                                } else {
+                                    listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                }
 
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
@@ -633,6 +845,14 @@ public class AmazonS3Plugin extends BasePlugin {
                                         preFilteringResponse,
                                         new UQIDataFilterParams(condition, null, sortBy, paginateBy));
 
+                                if (isPageRequested) {
+                                    // The token is null once the last page has been listed
+                                    Map<String, Object> page = new HashMap<>();
+                                    page.put("files", actionResult);
+                                    page.put("nextContinuationToken", nextContinuationToken);
+                                    actionResult = page;
+                                }
+
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
                                 requestParams.add(
@@ -745,12 +965,31 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
 
+                                Long rangeStart;
+                                Long rangeEnd;
+                                try {
+                                    rangeStart = parseByteRangeBound(
+                                            getDataValueSafelyFromFormData(formData, READ_RANGE_START, STRING_TYPE));
+                                    rangeEnd = parseByteRangeBound(
+                                            getDataValueSafelyFromFormData(formData, READ_RANGE_END, STRING_TYPE));
+                                } catch (NumberFormatException e) {
+                                    return Mono.error(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                            S3ErrorMessages.BYTE_RANGE_NOT_A_NUMBER_ERROR_MSG,
+                                            e.getMessage()));
+                                }
+                                if (rangeStart != null || rangeEnd != null) {
+                                    requestParams.add(
+                                            new RequestParamDTO(READ_RANGE_START, rangeStart, null, null, null));
+                                    requestParams.add(new RequestParamDTO(READ_RANGE_END, rangeEnd, null, null, null));
+                                }
+
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
+                                    result = readFile(connection, bucketName, path, true, rangeStart, rangeEnd);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                    result = readFile(connection, bucketName, path, false, rangeStart, rangeEnd);
                                 }
                                 actionResult = Map.of("fileData", result);
                                 break;
@@ -23,11 +23,18 @@ public class FieldName {
     public static final String WHERE = "where";
     public static final String SORT = "sortBy";
     public static final String PAGINATE = "pagination";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String CONTINUATION_TOKEN = "continuationToken";
+    public static final String PARALLEL = "parallel";
+    public static final String RANGE_START = "rangeStart";
+    public static final String RANGE_END = "rangeEnd";
 
     public static final String CREATE_EXPIRY = CREATE + "." + EXPIRY;
     public static final String CREATE_DATATYPE = CREATE + "." + DATATYPE;
     public static final String READ_EXPIRY = READ + "." + EXPIRY;
     public static final String READ_DATATYPE = READ + "." + DATATYPE;
+    public static final String READ_RANGE_START = READ + "." + RANGE_START;
+    public static final String READ_RANGE_END = READ + "." + RANGE_END;
     public static final String LIST_PREFIX = LIST + "." + PREFIX;
     public static final String LIST_SIGNED_URL = LIST + "." + SIGNED_URL;
     public static final String LIST_EXPIRY = LIST + "." + EXPIRY;
@@ -35,6 +42,9 @@ public class FieldName {
     public static final String LIST_WHERE = LIST + "." + WHERE;
     public static final String LIST_SORT = LIST + "." + SORT;
     public static final String LIST_PAGINATE = LIST + "." + PAGINATE;
+    public static final String LIST_PAGE_SIZE = LIST + "." + PAGE_SIZE;
+    public static final String LIST_CONTINUATION_TOKEN = LIST + "." + CONTINUATION_TOKEN;
+    public static final String LIST_PARALLEL = LIST + "." + PARALLEL;
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
     public static final String KEY_BUCKET = "bucket";
     public static final String KEY_DATA = "data";
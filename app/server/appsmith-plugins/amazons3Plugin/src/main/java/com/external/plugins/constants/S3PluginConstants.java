@@ -12,4 +12,8 @@ public class S3PluginConstants {
     public static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
+    public static final String LIST_PARTITION_DELIMITER = "/";
+    public static final int LIST_PARTITION_CONCURRENCY = 8;
+    public static final int SIGNED_URL_BATCH_SIZE = 500;
+    public static final int SIGNED_URL_BATCH_CONCURRENCY = 4;
 }
@@ -62,6 +62,15 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a number. Please ensure that the input to 'Page size' field is a "
+                    + "valid number - i.e. any positive integer. Please note that Amazon S3 returns at most 1000 "
+                    + "files per page.";
+
+    public static final String BYTE_RANGE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Byte range start' or 'Byte range end' is NOT a number. Please ensure that the input to "
+                    + "these fields is a valid number - i.e. any non-negative integer.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
@@ -6,6 +6,9 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
@@ -34,6 +37,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -61,7 +65,9 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,6 +75,8 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_RANGE_END;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
@@ -1535,4 +1543,126 @@ public class AmazonS3PluginTest {
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    @Test
+    public void testListAllFilesInBucketConcurrently_keepsLexicographicOrder() throws Exception {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        ListObjectsV2Result topLevelResult = new ListObjectsV2Result();
+        topLevelResult.getObjectSummaries().add(createObjectSummary("a.txt"));
+        topLevelResult.getObjectSummaries().add(createObjectSummary("c.txt"));
+        topLevelResult.setCommonPrefixes(List.of("b/", "d/"));
+        topLevelResult.setTruncated(false);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(topLevelResult);
+
+        ObjectListing firstPartition = new ObjectListing();
+        firstPartition.getObjectSummaries().add(createObjectSummary("b/1"));
+        firstPartition.getObjectSummaries().add(createObjectSummary("b/2"));
+        when(mockConnection.listObjects("bucket_name", "b/")).thenReturn(firstPartition);
+
+        ObjectListing secondPartition = new ObjectListing();
+        secondPartition.getObjectSummaries().add(createObjectSummary("d/1"));
+        when(mockConnection.listObjects("bucket_name", "d/")).thenReturn(secondPartition);
+
+        List<String> files = pluginExecutor.listAllFilesInBucketConcurrently(mockConnection, "bucket_name", "");
+
+        assertEquals(List.of("a.txt", "b/1", "b/2", "c.txt", "d/1"), files);
+    }
+
+    @Test
+    public void testListFilesWithPageSize_returnsNextContinuationToken() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, BODY, "");
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "2");
+        setDataValueSafelyInFormData(configMap, LIST_CONTINUATION_TOKEN, "token_1");
+
+        actionConfiguration.setFormData(configMap);
+
+        ListObjectsV2Result page = new ListObjectsV2Result();
+        page.getObjectSummaries().add(createObjectSummary("file_path_1"));
+        page.getObjectSummaries().add(createObjectSummary("file_path_2"));
+        page.setTruncated(true);
+        page.setNextContinuationToken("token_2");
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<ListObjectsV2Request> requestCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        when(mockConnection.listObjectsV2(requestCaptor.capture())).thenReturn(page);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    ArrayNode files = (ArrayNode) body.get("files");
+                    assertEquals(2, files.size());
+                    assertEquals("file_path_1", files.get(0).get("fileName").asText());
+                    assertEquals("file_path_2", files.get(1).get("fileName").asText());
+                    assertEquals("token_2", body.get("nextContinuationToken"));
+
+                    assertEquals(2, requestCaptor.getValue().getMaxKeys());
+                    assertEquals("token_1", requestCaptor.getValue().getContinuationToken());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithByteRange_requestsRangeFromS3() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, BODY, "");
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_START, "0");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_END, "4");
+
+        actionConfiguration.setFormData(configMap);
+
+        String dummyContent = "Hello";
+        S3Object mockS3Object = mock(S3Object.class);
+        S3ObjectInputStream dummyS3ObjectInputStream =
+                new S3ObjectInputStream(new ByteArrayInputStream(dummyContent.getBytes()), null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(requestCaptor.capture())).thenReturn(mockS3Object);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(new String(Base64.encode(dummyContent.getBytes())), body.get("fileData"));
+                    assertArrayEquals(new long[] {0, 4}, requestCaptor.getValue().getRange());
+                })
+                .verifyComplete();
+    }
+
+    private static S3ObjectSummary createObjectSummary(String key) {
+        S3ObjectSummary objectSummary = new S3ObjectSummary();
+        objectSummary.setKey(key);
+        return objectSummary;
+    }
 }
@@ -7,6 +7,7 @@ import com.appsmith.util.WebClientUtils;
 import com.external.constants.ErrorMessages;
 import com.external.domains.RowObject;
 import com.external.plugins.exceptions.GSheetsPluginError;
+import com.external.utils.SheetsUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -141,6 +142,7 @@ public class RowsBulkAppendMethod implements ExecutionMethod {
                         "Bearer " + oauth2.getAuthenticationResponse().getToken()))
                 .exchange()
                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                .transform(SheetsUtil::retryWhenRateLimited)
                 .map(
                         response -> { // Choose body depending on response status
                             byte[] responseBody = response.getBody();
@@ -246,10 +248,10 @@ public class RowsBulkAppendMethod implements ExecutionMethod {
         uriBuilder.queryParam("insertDataOption", "INSERT_ROWS");
 
         final List<RowObject> body1 = (List<RowObject>) methodConfig.getBody();
-        List<List<Object>> collect = body1.stream()
-                .map(row ->
-                        row.getAsSheetValues(body1.get(0).getValueMap().keySet().toArray(new String[0])))
-                .collect(Collectors.toList());
+        // All the rows are appended along the columns of the first one
+        final String[] referenceKeys = body1.get(0).getValueMap().keySet().toArray(new String[0]);
+        List<List<Object>> collect =
+                body1.stream().map(row -> row.getAsSheetValues(referenceKeys)).collect(Collectors.toList());
 
         final ValueRange valueRange = new ValueRange();
         valueRange.setMajorDimension("ROWS");
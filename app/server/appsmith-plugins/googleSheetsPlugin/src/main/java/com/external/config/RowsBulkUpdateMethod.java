@@ -7,9 +7,11 @@ import com.appsmith.util.WebClientUtils;
 import com.external.constants.ErrorMessages;
 import com.external.domains.RowObject;
 import com.external.plugins.exceptions.GSheetsPluginError;
+import com.external.utils.SheetsUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.StringUtils;
@@ -20,8 +22,6 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,7 +32,7 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
- * API reference: https://developers.google.com/sheets/api/reference/rest/v4/spreadsheets.values/update
+ * API reference: https://developers.google.com/sheets/api/reference/rest/v4/spreadsheets.values/batchUpdate
  */
 public class RowsBulkUpdateMethod implements ExecutionMethod {
 
@@ -112,28 +112,41 @@ public class RowsBulkUpdateMethod implements ExecutionMethod {
         }
 
         assert rowObjectMapFromBody != null;
-        final Integer rowStart = Integer.parseInt(methodConfig.getTableHeaderIndex())
-                + ((TreeMap<Integer, RowObject>) rowObjectMapFromBody).firstKey()
-                + 1;
-        final Integer rowEnd = Integer.parseInt(methodConfig.getTableHeaderIndex())
-                + ((TreeMap<Integer, RowObject>) rowObjectMapFromBody).lastKey()
-                + 1;
+        final int tableHeaderIndex = Integer.parseInt(methodConfig.getTableHeaderIndex());
+        final String sheetPrefix = "'" + methodConfig.getSheetName() + "'!";
+
+        // Only the rows to be updated are read and written back, one range per run of consecutive rows, so that the
+        // rows in between are neither transferred nor rewritten
+        final List<String> ranges = new ArrayList<>();
+        ranges.add(sheetPrefix + tableHeaderIndex + ":" + tableHeaderIndex);
+        for (int[] rowRun : getConsecutiveRowRuns(((TreeMap<Integer, RowObject>) rowObjectMapFromBody).keySet())) {
+            ranges.add(sheetPrefix + (tableHeaderIndex + rowRun[0] + 1) + ":" + (tableHeaderIndex + rowRun[1] + 1));
+        }
+
+        // Rows are referred to by their index, so neither the where clause nor the pagination apply to them
         final MethodConfig newMethodConfig = methodConfig.toBuilder()
                 .queryFormat("RANGE")
-                .spreadsheetRange(rowStart + ":" + rowEnd)
+                .spreadsheetRange(ranges.get(1).substring(sheetPrefix.length()))
                 .projection(new ArrayList<>())
                 .build();
 
         rowsGetMethod.validateExecutionMethodRequest(newMethodConfig);
 
+        UriComponentsBuilder uriBuilder = getBaseUriBuilder(
+                this.BASE_SHEETS_API_URL, methodConfig.getSpreadsheetId() /* spreadsheet Id */ + "/values:batchGet");
+        uriBuilder.queryParam("majorDimension", "ROWS");
+        uriBuilder.queryParam("ranges", ranges);
+
         Map<Integer, RowObject> finalRowObjectMapFromBody = rowObjectMapFromBody;
-        return rowsGetMethod
-                .getExecutionClient(client, newMethodConfig)
+        return client.method(HttpMethod.GET)
+                .uri(uriBuilder.build(false).toUri())
+                .body(BodyInserters.empty())
                 .headers(headers -> headers.set(
                         "Authorization",
                         "Bearer " + oauth2.getAuthenticationResponse().getToken()))
                 .exchange()
                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                .transform(SheetsUtil::retryWhenRateLimited)
                 .map(response -> {
                     // Choose body depending on response status
                     byte[] responseBody = response.getBody();
@@ -167,38 +180,65 @@ public class RowsBulkUpdateMethod implements ExecutionMethod {
                                 ErrorMessages.RESPONSE_DATA_MAPPING_FAILED_ERROR_MSG));
                     }
 
-                    // This is the object with the original values in the referred row
-                    final JsonNode jsonNode =
-                            rowsGetMethod.transformExecutionResponse(jsonNodeBody, methodConfig, null);
-
-                    if (jsonNode == null || jsonNode.isEmpty()) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                GSheetsPluginError.QUERY_EXECUTION_FAILED,
-                                ErrorMessages.NO_DATA_FOUND_CURRENT_ROW_INDEX_ERROR_MSG));
-                    }
-
-                    // This is the rowObject for original values
-                    final List<RowObject> returnedRowObjects = new ArrayList<>(
-                            this.getRowObjectMapFromBody(jsonNode).values());
-
+                    final ArrayNode valueRanges = (ArrayNode) jsonNodeBody.get("valueRanges");
+                    final List<Map<String, Object>> data = new ArrayList<>();
+                    boolean found = false;
                     boolean updatable = false;
 
-                    // We replace these original values with new ones
-                    for (RowObject rowObject : returnedRowObjects) {
-                        if (finalRowObjectMapFromBody.containsKey(rowObject.getCurrentRowIndex())) {
-                            final Map<String, String> valueMap = finalRowObjectMapFromBody
-                                    .get(rowObject.getCurrentRowIndex())
-                                    .getValueMap();
-                            // We replace these original values with new ones
-                            final Map<String, String> returnedRowObjectValueMap = rowObject.getValueMap();
-                            for (Map.Entry<String, String> entry : returnedRowObjectValueMap.entrySet()) {
-                                String k = entry.getKey();
-                                if (valueMap.containsKey(k)) {
-                                    updatable = true;
-                                    returnedRowObjectValueMap.put(k, valueMap.get(k));
+                    for (int i = 1; i < valueRanges.size(); i++) {
+                        // The header range along with the range of a single run, as read by the get rows method
+                        final JsonNode rowRunResponse = objectMapper
+                                .createObjectNode()
+                                .set(
+                                        "valueRanges",
+                                        objectMapper
+                                                .createArrayNode()
+                                                .add(valueRanges.get(0))
+                                                .add(valueRanges.get(i)));
+
+                        // This is the object with the original values in the referred rows
+                        final JsonNode jsonNode =
+                                rowsGetMethod.transformExecutionResponse(rowRunResponse, newMethodConfig, null);
+
+                        if (jsonNode == null || jsonNode.isEmpty()) {
+                            continue;
+                        }
+                        found = true;
+
+                        // This is the rowObject for original values
+                        final List<RowObject> returnedRowObjects = new ArrayList<>(
+                                this.getRowObjectMapFromBody(jsonNode).values());
+
+                        // We replace these original values with new ones
+                        for (RowObject rowObject : returnedRowObjects) {
+                            if (finalRowObjectMapFromBody.containsKey(rowObject.getCurrentRowIndex())) {
+                                final Map<String, String> valueMap = finalRowObjectMapFromBody
+                                        .get(rowObject.getCurrentRowIndex())
+                                        .getValueMap();
+                                final Map<String, String> returnedRowObjectValueMap = rowObject.getValueMap();
+                                for (Map.Entry<String, String> entry : returnedRowObjectValueMap.entrySet()) {
+                                    String k = entry.getKey();
+                                    if (valueMap.containsKey(k)) {
+                                        updatable = true;
+                                        returnedRowObjectValueMap.put(k, valueMap.get(k));
+                                    }
                                 }
                             }
                         }
+
+                        data.add(Map.of(
+                                "range",
+                                valueRanges.get(i).get("range").asText(),
+                                "majorDimension",
+                                "ROWS",
+                                "values",
+                                getSheetValues(returnedRowObjects)));
+                    }
+
+                    if (!found) {
+                        throw Exceptions.propagate(new AppsmithPluginException(
+                                GSheetsPluginError.QUERY_EXECUTION_FAILED,
+                                ErrorMessages.NO_DATA_FOUND_CURRENT_ROW_INDEX_ERROR_MSG));
                     }
 
                     if (Boolean.FALSE.equals(updatable)) {
@@ -206,10 +246,7 @@ public class RowsBulkUpdateMethod implements ExecutionMethod {
                                 GSheetsPluginError.QUERY_EXECUTION_FAILED, ErrorMessages.NOTHING_TO_UPDATE_ERROR_MSG));
                     }
 
-                    methodConfig.setBody(returnedRowObjects);
-                    assert jsonNodeBody != null;
-                    methodConfig.setSpreadsheetRange(
-                            jsonNodeBody.get("valueRanges").get(1).get("range").asText());
+                    methodConfig.setBody(data);
                     return methodConfig;
                 });
     }
@@ -219,25 +256,20 @@ public class RowsBulkUpdateMethod implements ExecutionMethod {
 
         UriComponentsBuilder uriBuilder = getBaseUriBuilder(
                 this.BASE_SHEETS_API_URL,
-                methodConfig.getSpreadsheetId() /* spreadsheet Id */
-                        + "/values/"
-                        + URLEncoder.encode(methodConfig.getSpreadsheetRange(), StandardCharsets.UTF_8),
+                methodConfig.getSpreadsheetId() /* spreadsheet Id */ + "/values:batchUpdate",
                 true);
 
-        uriBuilder.queryParam("valueInputOption", "USER_ENTERED");
-        uriBuilder.queryParam("includeValuesInResponse", Boolean.TRUE);
-
-        final List<RowObject> body1 = (List<RowObject>) methodConfig.getBody();
-        List<List<Object>> collect = body1.stream()
-                .map(row ->
-                        row.getAsSheetValues(body1.get(0).getValueMap().keySet().toArray(new String[0])))
-                .collect(Collectors.toList());
-
+        // All the runs of rows are written in a single request
         return webClient
-                .method(HttpMethod.PUT)
+                .method(HttpMethod.POST)
                 .uri(uriBuilder.build(true).toUri())
                 .body(BodyInserters.fromValue(Map.of(
-                        "range", methodConfig.getSpreadsheetRange(), "majorDimension", "ROWS", "values", collect)));
+                        "valueInputOption",
+                        "USER_ENTERED",
+                        "includeValuesInResponse",
+                        Boolean.TRUE,
+                        "data",
+                        methodConfig.getBody())));
     }
 
     @Override
@@ -251,6 +283,34 @@ public class RowsBulkUpdateMethod implements ExecutionMethod {
         return this.objectMapper.valueToTree(Map.of("message", "Updated sheet successfully!"));
     }
 
+    /**
+     * Groups the given sorted row indices into runs of consecutive rows.
+     *
+     * @return the first and last row index of every run
+     */
+    static List<int[]> getConsecutiveRowRuns(Set<Integer> sortedRowIndices) {
+        final List<int[]> rowRuns = new ArrayList<>();
+        int[] rowRun = null;
+        for (Integer rowIndex : sortedRowIndices) {
+            if (rowRun != null && rowRun[1] + 1 == rowIndex) {
+                rowRun[1] = rowIndex;
+            } else {
+                rowRun = new int[] {rowIndex, rowIndex};
+                rowRuns.add(rowRun);
+            }
+        }
+        return rowRuns;
+    }
+
+    private List<List<Object>> getSheetValues(List<RowObject> rowObjects) {
+        // All the rows of a run share the same columns
+        final String[] referenceKeys =
+                rowObjects.get(0).getValueMap().keySet().toArray(new String[0]);
+        return rowObjects.stream()
+                .map(rowObject -> rowObject.getAsSheetValues(referenceKeys))
+                .collect(Collectors.toList());
+    }
+
     private Map<Integer, RowObject> getRowObjectMapFromBody(JsonNode body) {
 
         if (!body.isArray()) {
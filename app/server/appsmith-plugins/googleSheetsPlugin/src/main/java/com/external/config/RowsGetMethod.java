@@ -25,6 +25,10 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+
 /**
  * API reference: https://developers.google.com/sheets/api/reference/rest/v4/spreadsheets.values/get
  */
@@ -123,6 +127,15 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
             }
         }
         if ("ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())) {
+            final int[] pushedDownPage = getPushedDownPage(methodConfig);
+            if (pushedDownPage != null) {
+                // Only the rows of the requested page are fetched
+                final int firstRow = tableHeaderIndex + 1 + pushedDownPage[1];
+                final int lastRow = firstRow + pushedDownPage[0] - 1;
+                return List.of(
+                        "'" + methodConfig.getSheetName() + "'!" + tableHeaderIndex + ":" + tableHeaderIndex,
+                        "'" + methodConfig.getSheetName() + "'!A" + firstRow + ":ZZZ" + lastRow);
+            }
             return List.of(
                     "'" + methodConfig.getSheetName() + "'!" + tableHeaderIndex + ":" + tableHeaderIndex,
                     "'" + methodConfig.getSheetName() + "'!A" + (tableHeaderIndex + 1) + ":ZZZ");
@@ -182,13 +195,16 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
         // where condition needs to applied only when the filter format is where clause
         // For filter format of cell range, we do not need to apply where clause
         if (isWhereConditionConfigured(methodConfig) && "ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())) {
+            // The page has already been applied to the range of the request if it could be
+            final Map<String, String> paginateBy =
+                    getPushedDownPage(methodConfig) == null ? methodConfig.getPaginateBy() : null;
             return filterDataService.filterDataNew(
                     preFilteringResponse,
                     new UQIDataFilterParams(
                             methodConfig.getWhereConditions(),
                             methodConfig.getProjection(),
                             methodConfig.getSortBy(),
-                            methodConfig.getPaginateBy()),
+                            paginateBy),
                     getDataTypeConversionMap());
         }
 
@@ -240,6 +256,64 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
         return headerSet;
     }
 
+    /**
+     * The page of rows to return can be fetched straight from the sheet, instead of fetching all the rows and paging
+     * through them afterwards, as long as no rows are filtered out or sorted before paging.
+     *
+     * @return the limit and offset of the page to fetch, or null if all the rows need to be fetched
+     */
+    int[] getPushedDownPage(MethodConfig methodConfig) {
+        final Map<String, ?> paginateBy = methodConfig.getPaginateBy();
+        // Rows are only paged through along with the where clause
+        if (!isWhereConditionConfigured(methodConfig) || paginateBy == null || paginateBy.isEmpty()) {
+            return null;
+        }
+        if (hasFilterConditions(methodConfig.getWhereConditions()) || hasSortColumns(methodConfig.getSortBy())) {
+            return null;
+        }
+
+        try {
+            // Same defaults as the ones used when paging through the rows
+            final int limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), 20);
+            final int offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), 0);
+            if (limit <= 0 || offset < 0) {
+                return null;
+            }
+            return new int[] {limit, offset};
+        } catch (NumberFormatException e) {
+            // Leave it to the paging to report the invalid value
+            return null;
+        }
+    }
+
+    private int parsePaginationValue(Object value, int defaultValue) {
+        if (value == null || String.valueOf(value).isBlank()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(String.valueOf(value).trim());
+    }
+
+    private boolean hasFilterConditions(Condition condition) {
+        if (condition == null) {
+            return false;
+        }
+        if (condition.getValue() instanceof List<?> children) {
+            return children.stream()
+                    .anyMatch(child -> child instanceof Condition && hasFilterConditions((Condition) child));
+        }
+        return condition.getPath() != null && !condition.getPath().isBlank();
+    }
+
+    private boolean hasSortColumns(List<Map<String, String>> sortBy) {
+        if (sortBy == null) {
+            return false;
+        }
+        return sortBy.stream().anyMatch(sortCondition -> {
+            final Object column = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            return column != null && !String.valueOf(column).isBlank();
+        });
+    }
+
     private Boolean isWhereConditionConfigured(MethodConfig methodConfig) {
         Condition whereConditions = methodConfig.getWhereConditions();
 
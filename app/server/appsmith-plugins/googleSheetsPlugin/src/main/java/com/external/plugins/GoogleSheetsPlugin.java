@@ -26,6 +26,7 @@ import com.external.config.TriggerMethod;
 import com.external.constants.ErrorMessages;
 import com.external.constants.FieldName;
 import com.external.plugins.exceptions.GSheetsPluginError;
+import com.external.utils.SheetsUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
@@ -190,6 +191,7 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                                         .getToken()))
                                 .exchange()
                                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                                .transform(SheetsUtil::retryWhenRateLimited)
                                 .map(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
@@ -4,7 +4,13 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
 import com.external.enums.GoogleSheetMethodEnum;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Map;
@@ -16,6 +22,8 @@ public class SheetsUtil {
 
     private static final String FILE_SPECIFIC_DRIVE_SCOPE = "https://www.googleapis.com/auth/drive.file";
     private static final int USER_AUTHORIZED_SHEET_IDS_INDEX = 1;
+    private static final int RATE_LIMITED_MAX_RETRIES = 3;
+    private static final Duration RATE_LIMITED_FIRST_BACKOFF = Duration.ofSeconds(1);
 
     public static Set<String> getUserAuthorizedSheetIds(DatasourceConfiguration datasourceConfiguration) {
         OAuth2 oAuth2 = (OAuth2) datasourceConfiguration.getAuthentication();
@@ -66,4 +74,34 @@ public class SheetsUtil {
                         "id", file.get("id").asText(), "name", file.get("name").asText(), "url", spreadSheetUrl);
         }
     }
+
+    /**
+     * Sends the request again, with an exponential backoff, when it is rejected because the per minute quota of the
+     * Sheets API is exhausted. The last response is returned as is once the retries are exhausted, so that the quota
+     * error is reported the same way as any other unsuccessful response.
+     */
+    public static Mono<ResponseEntity<byte[]>> retryWhenRateLimited(Mono<ResponseEntity<byte[]>> request) {
+        return request.flatMap(response -> HttpStatus.TOO_MANY_REQUESTS.equals(response.getStatusCode())
+                        ? Mono.<ResponseEntity<byte[]>>error(new RateLimitedException(response))
+                        : Mono.just(response))
+                .retryWhen(Retry.backoff(RATE_LIMITED_MAX_RETRIES, RATE_LIMITED_FIRST_BACKOFF)
+                        .filter(e -> e instanceof RateLimitedException))
+                .onErrorResume(
+                        Exceptions::isRetryExhausted,
+                        e -> Mono.just(((RateLimitedException) e.getCause()).getResponse()));
+    }
+
+    private static class RateLimitedException extends RuntimeException {
+
+        private final ResponseEntity<byte[]> response;
+
+        RateLimitedException(ResponseEntity<byte[]> response) {
+            super("Sheets API quota exceeded", null, false, false);
+            this.response = response;
+        }
+
+        ResponseEntity<byte[]> getResponse() {
+            return response;
+        }
+    }
 }
@@ -13,9 +13,12 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -84,6 +87,16 @@ public class RowsBulkUpdateMethodTest {
         }
     }
 
+    @Test
+    public void testGetConsecutiveRowRuns_groupsConsecutiveRows() {
+        List<int[]> rowRuns = RowsBulkUpdateMethod.getConsecutiveRowRuns(new TreeSet<>(List.of(8, 0, 1, 2, 5, 7)));
+
+        assertEquals(3, rowRuns.size());
+        assertArrayEquals(new int[] {0, 2}, rowRuns.get(0));
+        assertArrayEquals(new int[] {5, 5}, rowRuns.get(1));
+        assertArrayEquals(new int[] {7, 8}, rowRuns.get(2));
+    }
+
     /**
      * Simulated oAuth2 object, just to bypass few case.
      * @return
@@ -1,6 +1,8 @@
 package com.external.config;
 
+import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.TriggerRequestDTO;
 import com.external.constants.ErrorMessages;
 import com.external.constants.FieldName;
@@ -10,10 +12,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -243,4 +247,41 @@ public class RowsGetMethodTest {
         Boolean actualResult = rowsGetMethod.validateExecutionMethodRequest(methodConfig);
         assertEquals(true, actualResult);
     }
+
+    @Test
+    public void testGetPushedDownPage_withoutFiltersOrSorting_returnsPage() {
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        MethodConfig methodConfig = MethodConfig.builder()
+                .queryFormat("ROWS")
+                .whereConditions(new Condition(
+                        null,
+                        ConditionalOperator.AND,
+                        List.of(new Condition("", ConditionalOperator.EQ, "", null)),
+                        null))
+                .sortBy(List.of(Map.of("column", "", "order", "Ascending")))
+                .paginateBy(Map.of("limit", "10", "offset", "40"))
+                .build();
+
+        int[] page = rowsGetMethod.getPushedDownPage(methodConfig);
+
+        assertNotNull(page);
+        assertEquals(10, page[0]);
+        assertEquals(40, page[1]);
+    }
+
+    @Test
+    public void testGetPushedDownPage_withFilters_returnsNull() {
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        MethodConfig methodConfig = MethodConfig.builder()
+                .queryFormat("ROWS")
+                .whereConditions(new Condition(
+                        null,
+                        ConditionalOperator.AND,
+                        List.of(new Condition("Name", ConditionalOperator.EQ, "Appsmith", null)),
+                        null))
+                .paginateBy(Map.of("limit", "10", "offset", "40"))
+                .build();
+
+        assertNull(rowsGetMethod.getPushedDownPage(methodConfig));
+    }
 }
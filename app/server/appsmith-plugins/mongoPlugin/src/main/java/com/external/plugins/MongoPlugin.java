@@ -35,35 +35,25 @@ import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
 import com.external.plugins.utils.MongoErrorUtils;
+import com.external.plugins.utils.SampledCollectionSchema;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +64,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -90,6 +76,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -107,6 +95,7 @@ import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FETCH_ALL_BATCHES;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -118,6 +107,8 @@ import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
 import static com.external.plugins.exceptions.MongoPluginErrorMessages.MONGO_CLIENT_NULL_ERROR_MSG;
+import static com.external.plugins.utils.BsonJsonNodeUtils.toBigInteger;
+import static com.external.plugins.utils.BsonJsonNodeUtils.toJsonNode;
 import static com.external.plugins.utils.DatasourceUtils.KEY_PASSWORD;
 import static com.external.plugins.utils.DatasourceUtils.KEY_URI_DEFAULT_DBNAME;
 import static com.external.plugins.utils.DatasourceUtils.KEY_USERNAME;
@@ -134,6 +125,7 @@ import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndSt
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static org.apache.logging.log4j.util.Strings.isBlank;
@@ -159,6 +151,14 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
 
+    // Number of documents sampled per collection to infer its structure
+    private static final int STRUCTURE_SAMPLE_SIZE = 20;
+
+    private static final int STRUCTURE_SAMPLING_CONCURRENCY = 8;
+
+    // Most documents fetched for a query with all its batches, so that a large collection can't exhaust the memory
+    private static final int MAX_FETCHED_DOCUMENTS = 100_000;
+
     /**
      * We use this regex to identify the $regex attribute and the respective argument provided:
      * e.g. {"code" : {$regex: value, $options: value}} / {"code" : {$regex: value}}
@@ -203,18 +203,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -309,18 +297,24 @@ public class MongoPlugin extends BasePlugin {
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
             Mono<Document> mongoOutputMono;
+            // The command and the getMore and killCursors commands following its cursor all run in this session
+            AtomicReference<ClientSession> sessionRef = new AtomicReference<>();
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
+            boolean fetchAllBatches;
             try {
                 MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
+                fetchAllBatches = isFetchAllBatchesEnabled(formData);
                 Bson command = Document.parse(query);
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                mongoOutputMono = Mono.from(mongoClient.startSession())
+                        .doOnNext(sessionRef::set)
+                        .flatMap(session -> Mono.from(database.runCommand(session, command)));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -330,125 +324,100 @@ public class MongoPlugin extends BasePlugin {
             }
 
             Instant requestedAt = Instant.now();
-            return mongoOutputMono
-                    .onErrorMap(
-                            MongoTimeoutException.class,
-                            error -> new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, error.getMessage()))
-                    .onErrorMap(
-                            MongoCommandException.class,
-                            error -> new AppsmithPluginException(
-                                    error,
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    MongoPluginErrorMessages.QUERY_INVALID_ERROR_MSG))
-                    /**
-                     * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
-                     * IllegalStateException when query is run.
-                     * Ref: https://github.com/appsmithorg/appsmith/issues/15548
-                     */
-                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
-                    // This is an experimental fix to handle the scenario where after a period of inactivity, the mongo
-                    // database drops the connection which makes the client throw the following exception.
-                    .onErrorMap(
-                            MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
+            return mapCommandErrors(mongoOutputMono)
                     .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                        /*
+                         * The output is converted straight from the decoded document. It used to be written out as
+                         * extended JSON through a custom codec, since the MongoDB Reactive API does not support
+                         * processing of DbRef Object, and parsed back from there.
+                         * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+                         */
+
+                        // The output contains the key "ok". This is the status of the command
+                        BigInteger status = toBigInteger(mongoOutput.get("ok"));
+                        ArrayNode headerArray = objectMapper.createArrayNode();
+                        Mono<Void> remainingBatchesMono = Mono.empty();
+
+                        if (BigInteger.ONE.equals(status)) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (mongoOutput.containsKey(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, toJsonNode(mongoOutput.get(VALUE)));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                            /*
+                             The json contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result json.
+                            */
+                            if (mongoOutput.containsKey("cursor")) {
+                                Document cursor = mongoOutput.get("cursor", Document.class);
+                                ArrayNode outputResult = (ArrayNode) toJsonNode(cursor.get("firstBatch"));
+                                result.setBody(outputResult);
+                                if (fetchAllBatches) {
+                                    remainingBatchesMono = appendRemainingBatches(
+                                                    mongoClient, sessionRef.get(), cursor, outputResult)
+                                            .filter(TRUE::equals)
+                                            .doOnNext(truncated -> result.setMessages(Set.of(String.format(
+                                                    MongoPluginErrorMessages.FETCHED_DOCUMENTS_LIMIT_REACHED_MSG,
+                                                    MAX_FETCHED_DOCUMENTS))))
+                                            .then();
                                 }
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                             The json contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (mongoOutput.containsKey("n")) {
+                                ObjectNode body =
+                                        objectMapper.createObjectNode().put("n", toBigInteger(mongoOutput.get("n")));
+                                result.setBody(body);
+                                headerArray.add(body.deepCopy());
+                            }
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
+                            /*
+                             The json key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (mongoOutput.containsKey(N_MODIFIED)) {
+                                ObjectNode body = objectMapper
+                                        .createObjectNode()
+                                        .put(N_MODIFIED, toBigInteger(mongoOutput.get(N_MODIFIED)));
+                                result.setBody(body);
+                                headerArray.add(body.deepCopy());
+                            }
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                            /*
+                             The json contains key "values" when distinct command is used.
+                            */
+                            if (mongoOutput.containsKey(VALUES)) {
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                ObjectNode resultNode = objectMapper.createObjectNode();
+                                resultNode.set(VALUES, toJsonNode(mongoOutput.get(VALUES)));
+                                result.setBody(resultNode);
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
                         }
 
-                        return Mono.just(result);
+                        headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                        result.setHeaders(headerArray);
+
+                        return remainingBatchesMono.thenReturn(result);
                     })
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
@@ -481,9 +450,135 @@ public class MongoPlugin extends BasePlugin {
                         actionExecutionResult.setRequest(request);
                         return actionExecutionResult;
                     })
+                    .doFinally(signalType -> {
+                        ClientSession session = sessionRef.getAndSet(null);
+                        if (session != null) {
+                            session.close();
+                        }
+                    })
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Maps the errors the driver raises for a command, be it the command run for the query or one of the getMore
+         * commands following its cursor.
+         */
+        private static <T> Mono<T> mapCommandErrors(Mono<T> commandMono) {
+            return commandMono
+                    .onErrorMap(
+                            MongoTimeoutException.class,
+                            error -> new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, error.getMessage()))
+                    .onErrorMap(
+                            MongoCommandException.class,
+                            error -> new AppsmithPluginException(
+                                    error,
+                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    MongoPluginErrorMessages.QUERY_INVALID_ERROR_MSG))
+                    /**
+                     * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
+                     * IllegalStateException when query is run.
+                     * Ref: https://github.com/appsmithorg/appsmith/issues/15548
+                     */
+                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
+                    // This is an experimental fix to handle the scenario where after a period of inactivity, the mongo
+                    // database drops the connection which makes the client throw the following exception.
+                    .onErrorMap(
+                            MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()));
+        }
+
+        private boolean isFetchAllBatchesEnabled(Map<String, Object> formData) {
+            Object fetchAllBatches =
+                    PluginUtils.getDataValueSafelyFromFormData(formData, FETCH_ALL_BATCHES, OBJECT_TYPE, FALSE);
+            if (fetchAllBatches instanceof String) {
+                return Boolean.parseBoolean((String) fetchAllBatches);
+            }
+            return TRUE.equals(fetchAllBatches);
+        }
+
+        /**
+         * Follows the cursor returned by a find or aggregate command with getMore commands until it is exhausted, and
+         * appends the documents of every batch to the result as soon as the batch is received. This way, only one
+         * batch is held as BSON documents at any time.
+         * <p>
+         * No more batches are fetched once the result holds {@link #MAX_FETCHED_DOCUMENTS} documents. The cursor is
+         * killed on the server whenever it is left open, i.e. when the limit is reached, a getMore command fails or
+         * the execution is cancelled, instead of holding on to it until it times out.
+         * <p>
+         * Every getMore and killCursors command is run in the session of the command that opened the cursor, which the
+         * server requires for cursors opened in an explicit session.
+         *
+         * @param mongoClient  : The connection the command was run on
+         * @param session      : The session the command was run in
+         * @param cursor       : The cursor document of the command output
+         * @param outputResult : The converted documents of the first batch, to which the next ones are appended
+         * @return Whether the result was cut short because of the limit
+         */
+        private Mono<Boolean> appendRemainingBatches(
+                MongoClient mongoClient, ClientSession session, Document cursor, ArrayNode outputResult) {
+            String namespace = cursor.getString("ns");
+            if (namespace == null || !namespace.contains(".")) {
+                return Mono.just(FALSE);
+            }
+            MongoDatabase cursorDatabase = mongoClient.getDatabase(namespace.substring(0, namespace.indexOf('.')));
+            String collectionName = namespace.substring(namespace.indexOf('.') + 1);
+
+            // Id of the cursor as last returned by the server, which is 0 once the server has closed it
+            AtomicReference<Object> openCursorId = new AtomicReference<>(cursor.get("id"));
+            AtomicBoolean truncated = new AtomicBoolean(false);
+
+            return Mono.just(cursor)
+                    .expand(currentCursor -> {
+                        Object cursorId = currentCursor.get("id");
+                        openCursorId.set(cursorId);
+                        if (!isCursorOpen(cursorId)) {
+                            return Mono.empty();
+                        }
+                        if (outputResult.size() >= MAX_FETCHED_DOCUMENTS) {
+                            truncated.set(true);
+                            return killCursor(session, cursorDatabase, collectionName, openCursorId)
+                                    .then(Mono.empty());
+                        }
+                        Document getMore = new Document("getMore", cursorId).append("collection", collectionName);
+                        return mapCommandErrors(Mono.from(cursorDatabase.runCommand(session, getMore)))
+                                .map(output -> {
+                                    Document nextCursor = output.get("cursor", Document.class);
+                                    outputResult.addAll((ArrayNode) toJsonNode(nextCursor.get("nextBatch")));
+                                    return nextCursor;
+                                });
+                    })
+                    .onErrorResume(error -> killCursor(session, cursorDatabase, collectionName, openCursorId)
+                            .then(Mono.error(error)))
+                    .doOnCancel(() -> killCursor(session, cursorDatabase, collectionName, openCursorId)
+                            .subscribe())
+                    .then(Mono.fromSupplier(truncated::get));
+        }
+
+        private static boolean isCursorOpen(Object cursorId) {
+            // A cursor id of 0 means that the server has no more documents to return
+            return cursorId != null && toBigInteger(cursorId).signum() != 0;
+        }
+
+        /**
+         * Kills the cursor on the server, if it is still open. A failure is only logged, the server would close the
+         * cursor once it times out anyway.
+         */
+        private static Mono<Void> killCursor(
+                ClientSession session,
+                MongoDatabase cursorDatabase,
+                String collectionName,
+                AtomicReference<Object> openCursorId) {
+            Object cursorId = openCursorId.getAndSet(null);
+            if (!isCursorOpen(cursorId)) {
+                return Mono.empty();
+            }
+            Document killCursors = new Document("killCursors", collectionName).append("cursors", List.of(cursorId));
+            return Mono.from(cursorDatabase.runCommand(session, killCursors))
+                    .doOnError(error -> log.debug("Failed to kill the cursor {}: {}", cursorId, error.getMessage()))
+                    .onErrorResume(error -> Mono.empty())
+                    .then();
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -900,8 +995,6 @@ public class MongoPlugin extends BasePlugin {
         public Mono<DatasourceStructure> getStructure(
                 MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration, Boolean isMock) {
             final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
 
             final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
@@ -912,38 +1005,35 @@ public class MongoPlugin extends BasePlugin {
                         }
                         return true;
                     })
-                    .flatMap(collectionName -> {
-                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                        tables.add(new DatasourceStructure.Table(
-                                DatasourceStructure.TableType.COLLECTION,
-                                null,
-                                collectionName,
-                                columns,
-                                new ArrayList<>(),
-                                templates));
-
-                        return Mono.zip(
-                                Mono.just(columns),
-                                Mono.just(templates),
-                                Mono.just(collectionName),
-                                Mono.from(database.getCollection(collectionName)
-                                        .find()
-                                        .limit(1)
-                                        .first()));
-                    })
-                    .flatMap(tuple -> {
-                        final ArrayList<DatasourceStructure.Column> columns = tuple.getT1();
-                        final ArrayList<DatasourceStructure.Template> templates = tuple.getT2();
-                        String collectionName = tuple.getT3();
-                        Document document = tuple.getT4();
-
-                        generateTemplatesAndStructureForACollection(collectionName, document, columns, templates);
-
-                        return Mono.just(structure);
-                    })
+                    // Collections are sampled a few at a time, and listed in the order they are returned in
+                    .flatMapSequential(
+                            collectionName -> getCollectionSchema(database, collectionName)
+                                    .map(schema -> {
+                                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+                                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+
+                                        if (schema.getSampleSize() > 0) {
+                                            generateTemplatesAndStructureForACollection(
+                                                    collectionName,
+                                                    schema.toRepresentativeDocument(),
+                                                    columns,
+                                                    templates);
+                                        }
+
+                                        return new DatasourceStructure.Table(
+                                                DatasourceStructure.TableType.COLLECTION,
+                                                null,
+                                                collectionName,
+                                                columns,
+                                                new ArrayList<>(),
+                                                templates);
+                                    }),
+                            STRUCTURE_SAMPLING_CONCURRENCY)
                     .collectList()
-                    .thenReturn(structure)
+                    .map(tables -> {
+                        structure.setTables(tables);
+                        return structure;
+                    })
                     /**
                      * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
                      * IllegalStateException when query is run.
@@ -966,6 +1056,19 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Samples the documents of a collection to infer its schema. Since {@code $sample} picks random documents, the
+         * schema of a collection whose documents don't all have the same fields may differ from one load to the next.
+         * Sorting the sampled documents by id only orders the fields of the schema within a sample, it doesn't make
+         * the sample itself stable.
+         */
+        private Mono<SampledCollectionSchema> getCollectionSchema(MongoDatabase database, String collectionName) {
+            return Flux.from(database.getCollection(collectionName)
+                            .aggregate(List.of(
+                                    Aggregates.sample(STRUCTURE_SAMPLE_SIZE), Aggregates.sort(Sorts.ascending("_id")))))
+                    .collect(SampledCollectionSchema::new, SampledCollectionSchema::add);
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -1055,54 +1158,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
@@ -7,6 +7,10 @@ public class MongoPluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your Mongo query failed to execute.";
 
+    public static final String FETCHED_DOCUMENTS_LIMIT_REACHED_MSG =
+            "Only the first %d documents were fetched. Please narrow down the query, or paginate through the documents"
+                    + " with skip and limit, to get the rest of them.";
+
     public static final String CONNECTION_STRING_PARSING_FAILED_ERROR_MSG =
             "The Appsmith server has failed to parse the Mongo connection string URI.";
 
@@ -0,0 +1,147 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.types.Binary;
+import org.bson.types.Code;
+import org.bson.types.CodeWithScope;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts the documents returned by the Mongo driver straight into Jackson nodes, in a single pass and without going
+ * through their extended JSON representation.
+ * <p>
+ * Object ids, dates and decimals are converted to the plain values the plugin has always returned for them, i.e. the
+ * hex string of the id, the ISO-8601 instant of the date and the decimal number. The other BSON specific types are
+ * kept in their relaxed extended JSON form, e.g. {@code {"$binary": {"base64": "...", "subType": "00"}}}.
+ */
+public class BsonJsonNodeUtils {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    public static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return NODE_FACTORY.nullNode();
+        } else if (value instanceof Map<?, ?> map) {
+            // Covers Document, along with any other map decoded by the registry
+            ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return objectNode;
+        } else if (value instanceof Iterable<?> iterable) {
+            ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+            for (Object item : iterable) {
+                arrayNode.add(toJsonNode(item));
+            }
+            return arrayNode;
+        } else if (value instanceof String string) {
+            return NODE_FACTORY.textNode(string);
+        } else if (value instanceof Boolean bool) {
+            return NODE_FACTORY.booleanNode(bool);
+        } else if (value instanceof Integer integer) {
+            return NODE_FACTORY.numberNode(integer);
+        } else if (value instanceof Long longValue) {
+            return NODE_FACTORY.numberNode(longValue);
+        } else if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN() || doubleValue.isInfinite()) {
+                return NODE_FACTORY.objectNode().put("$numberDouble", doubleValue.toString());
+            }
+            return NODE_FACTORY.numberNode(doubleValue);
+        } else if (value instanceof ObjectId objectId) {
+            return NODE_FACTORY.textNode(objectId.toHexString());
+        } else if (value instanceof Date date) {
+            return NODE_FACTORY.textNode(DateTimeFormatter.ISO_INSTANT.format(date.toInstant()));
+        } else if (value instanceof Decimal128 decimal) {
+            if (decimal.isNaN() || decimal.isInfinite()) {
+                return NODE_FACTORY.objectNode().put("$numberDecimal", decimal.toString());
+            }
+            return NODE_FACTORY.numberNode(decimal.bigDecimalValue());
+        } else if (value instanceof BigDecimal bigDecimal) {
+            return NODE_FACTORY.numberNode(bigDecimal);
+        } else if (value instanceof BigInteger bigInteger) {
+            return NODE_FACTORY.numberNode(bigInteger);
+        } else if (value instanceof Number number) {
+            return NODE_FACTORY.numberNode(new BigDecimal(number.toString()));
+        } else if (value instanceof Binary binary) {
+            return binaryNode(binary.getData(), binary.getType());
+        } else if (value instanceof byte[] bytes) {
+            return binaryNode(bytes, (byte) 0);
+        } else if (value instanceof UUID uuid) {
+            return NODE_FACTORY.textNode(uuid.toString());
+        } else if (value instanceof BsonTimestamp timestamp) {
+            ObjectNode objectNode = NODE_FACTORY.objectNode();
+            objectNode
+                    .putObject("$timestamp")
+                    .put("t", Integer.toUnsignedLong(timestamp.getTime()))
+                    .put("i", Integer.toUnsignedLong(timestamp.getInc()));
+            return objectNode;
+        } else if (value instanceof BsonRegularExpression regularExpression) {
+            ObjectNode objectNode = NODE_FACTORY.objectNode();
+            objectNode
+                    .putObject("$regularExpression")
+                    .put("pattern", regularExpression.getPattern())
+                    .put("options", regularExpression.getOptions());
+            return objectNode;
+        } else if (value instanceof CodeWithScope codeWithScope) {
+            ObjectNode objectNode = NODE_FACTORY.objectNode().put("$code", codeWithScope.getCode());
+            objectNode.set("$scope", toJsonNode(codeWithScope.getScope()));
+            return objectNode;
+        } else if (value instanceof Code code) {
+            return NODE_FACTORY.objectNode().put("$code", code.getCode());
+        } else if (value instanceof Symbol symbol) {
+            return NODE_FACTORY.objectNode().put("$symbol", symbol.getSymbol());
+        } else if (value instanceof BsonUndefined) {
+            return NODE_FACTORY.objectNode().put("$undefined", true);
+        } else if (value instanceof MinKey) {
+            return NODE_FACTORY.objectNode().put("$minKey", 1);
+        } else if (value instanceof MaxKey) {
+            return NODE_FACTORY.objectNode().put("$maxKey", 1);
+        } else if (value instanceof DBRef dbRef) {
+            ObjectNode objectNode = NODE_FACTORY.objectNode().put("$ref", dbRef.getCollectionName());
+            objectNode.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                objectNode.put("$db", dbRef.getDatabaseName());
+            }
+            return objectNode;
+        }
+
+        return NODE_FACTORY.textNode(String.valueOf(value));
+    }
+
+    /**
+     * Reads a numeric field of a command output, e.g. {@code ok} or {@code n}, which the server may return as any of
+     * the BSON number types.
+     */
+    public static BigInteger toBigInteger(Object value) {
+        return new BigDecimal(String.valueOf(value)).toBigInteger();
+    }
+
+    private static ObjectNode binaryNode(byte[] data, byte subType) {
+        ObjectNode objectNode = NODE_FACTORY.objectNode();
+        objectNode
+                .putObject("$binary")
+                .put("base64", Base64.getEncoder().encodeToString(data))
+                .put("subType", HexFormat.of().toHexDigits(subType));
+        return objectNode;
+    }
+}
@@ -0,0 +1,107 @@
+package com.external.plugins.utils;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schema of a collection, inferred from a sample of its documents instead of a single one.
+ * <p>
+ * Every field found in any of the sampled documents is part of the schema. Since the documents of a collection don't
+ * have to agree on the type of a field, the type a field has in most of the sampled documents is taken as its type,
+ * and the first value of that type as its sample value. Ties go to the type seen first.
+ */
+public class SampledCollectionSchema {
+
+    private int sampleSize = 0;
+
+    // In the order the fields are first seen in the sample
+    private final Map<String, FieldSample> fields = new LinkedHashMap<>();
+
+    public void add(Document document) {
+        sampleSize++;
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            fields.computeIfAbsent(entry.getKey(), name -> new FieldSample()).add(entry.getValue());
+        }
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Builds a document with every field of the schema, each holding a sample value of its most frequent type, so
+     * that the structure and templates of the collection can be generated from it the same way as from a document of
+     * the collection.
+     */
+    public Document toRepresentativeDocument() {
+        Document document = new Document();
+        fields.forEach((name, fieldSample) -> document.put(name, fieldSample.getRepresentativeValue()));
+        return document;
+    }
+
+    /**
+     * Groups values the same way as the column types of the collection structure, see
+     * {@link MongoPluginUtils#generateTemplatesAndStructureForACollection}.
+     */
+    private static String getTypeGroup(Object value) {
+        if (value instanceof Integer) {
+            return "Integer";
+        } else if (value instanceof Long) {
+            return "Long";
+        } else if (value instanceof Double) {
+            return "Double";
+        } else if (value instanceof Decimal128) {
+            return "BigDecimal";
+        } else if (value instanceof String) {
+            return "String";
+        } else if (value instanceof ObjectId) {
+            return "ObjectId";
+        } else if (value instanceof Collection) {
+            return "Array";
+        } else if (value instanceof Date) {
+            return "Date";
+        }
+        return "Object";
+    }
+
+    private static class FieldSample {
+
+        // In the order the types are first seen in the sample
+        private final Map<String, TypeSample> types = new LinkedHashMap<>();
+
+        void add(Object value) {
+            if (value == null) {
+                // A null value says nothing about the type of the field
+                return;
+            }
+            types.computeIfAbsent(getTypeGroup(value), type -> new TypeSample(value)).count++;
+        }
+
+        Object getRepresentativeValue() {
+            TypeSample mostFrequent = null;
+            for (TypeSample typeSample : types.values()) {
+                if (mostFrequent == null || typeSample.count > mostFrequent.count) {
+                    mostFrequent = typeSample;
+                }
+            }
+            return mostFrequent == null ? null : mostFrequent.firstValue;
+        }
+    }
+
+    private static class TypeSample {
+
+        private final Object firstValue;
+
+        private int count = 0;
+
+        TypeSample(Object firstValue) {
+            this.firstValue = firstValue;
+        }
+    }
+}
@@ -47,6 +47,7 @@ import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FETCH_ALL_BATCHES;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -58,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -146,6 +148,46 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testFindWithFetchAllBatches_returnsDocumentsOfEveryBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, FETCH_ALL_BATCHES, Boolean.TRUE);
+        // A batch size of 1 makes the server return the documents over a getMore command each
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      find: \"users\",\n"
+                        + "      filter: { name: { $in: [\"Cierra Vega\", \"Alden Cantrell\", \"Kierra Gentry\"] } },\n"
+                        + "      sort: { age: 1 },\n"
+                        + "      batchSize: 1,\n"
+                        + "    }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(3, body.size());
+                    assertEquals("Cierra Vega", body.get(0).get("name").asText());
+                    assertEquals("Alden Cantrell", body.get(1).get("name").asText());
+                    assertEquals("Kierra Gentry", body.get(2).get("name").asText());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
     @Test
     public void testExecuteReadQuery() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -414,12 +456,14 @@ public class MongoPluginQueriesTest {
                     assertArrayEquals(
                             new DatasourceStructure.Column[] {
                                 new DatasourceStructure.Column("_id", "ObjectId", null, true),
+                                new DatasourceStructure.Column("aLong", "Long", null, false),
                                 new DatasourceStructure.Column("age", "Integer", null, false),
                                 new DatasourceStructure.Column("dob", "Date", null, false),
                                 new DatasourceStructure.Column("gender", "String", null, false),
                                 new DatasourceStructure.Column("luckyNumber", "Long", null, false),
                                 new DatasourceStructure.Column("name", "String", null, false),
                                 new DatasourceStructure.Column("netWorth", "BigDecimal", null, false),
+                                new DatasourceStructure.Column("ts", "Object", null, false),
                                 new DatasourceStructure.Column("updatedByCommand", "Object", null, false),
                             },
                             usersTable.getColumns().toArray());
@@ -488,12 +532,14 @@ public class MongoPluginQueriesTest {
                                     + "  \"documents\": [\n"
                                     + "    {\n"
                                     + "      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
                                     + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "    }\n"
                                     + "  ]\n"
@@ -505,12 +551,15 @@ public class MongoPluginQueriesTest {
                             PluginUtils.getDataValueSafelyFromFormData(
                                     (Map<String, Object>) insertTemplate.getConfiguration(), COMMAND, STRING_TYPE));
                     assertEquals(
-                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n" + "      \"age\": 1,\n"
+                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
+                                    + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "}]",
                             PluginUtils.getDataValueSafelyFromFormData(
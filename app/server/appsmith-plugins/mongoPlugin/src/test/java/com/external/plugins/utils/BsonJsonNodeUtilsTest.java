@@ -0,0 +1,55 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonJsonNodeUtilsTest {
+
+    @Test
+    void testToJsonNode_unwrapsExtendedJsonTypes() {
+        ObjectId id = new ObjectId("5f1e3c2b9d3e4a0012345678");
+        Document document = new Document("_id", id)
+                .append("dob", Date.from(Instant.parse("2018-12-31T00:00:00Z")))
+                .append("oldDate", new Date(-493033770000L))
+                .append("netWorth", new Decimal128(new BigDecimal("123456.789012")))
+                .append("luckyNumber", 987654321L)
+                .append("tags", List.of("a", new Document("nested", 1)));
+
+        JsonNode node = BsonJsonNodeUtils.toJsonNode(document);
+
+        assertEquals("5f1e3c2b9d3e4a0012345678", node.get("_id").asText());
+        assertEquals("2018-12-31T00:00:00Z", node.get("dob").asText());
+        assertEquals("1954-05-18T14:10:30Z", node.get("oldDate").asText());
+        assertEquals("123456.789012", node.get("netWorth").toString());
+        assertTrue(node.get("luckyNumber").isNumber());
+        assertEquals(1, node.get("tags").get(1).get("nested").asInt());
+    }
+
+    @Test
+    void testToJsonNode_keepsRelaxedFormOfOtherTypes() {
+        JsonNode node = BsonJsonNodeUtils.toJsonNode(new Binary(new byte[] {1, 2, 3}));
+
+        assertEquals("AQID", node.get("$binary").get("base64").asText());
+        assertEquals("00", node.get("$binary").get("subType").asText());
+    }
+
+    @Test
+    void testToBigInteger_acceptsAllNumberTypes() {
+        assertEquals(BigInteger.ONE, BsonJsonNodeUtils.toBigInteger(1.0));
+        assertEquals(BigInteger.ONE, BsonJsonNodeUtils.toBigInteger(1));
+        assertEquals(BigInteger.ONE, BsonJsonNodeUtils.toBigInteger(1L));
+    }
+}
@@ -0,0 +1,38 @@
+package com.external.plugins.utils;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SampledCollectionSchemaTest {
+
+    @Test
+    void testToRepresentativeDocument_mergesFieldsOfAllSampledDocuments() {
+        SampledCollectionSchema schema = new SampledCollectionSchema();
+        schema.add(new Document("name", "Cierra Vega").append("age", 20));
+        schema.add(new Document("name", "Alden Cantrell").append("aLong", 9_000_000_000L));
+
+        Document document = schema.toRepresentativeDocument();
+
+        assertEquals(2, schema.getSampleSize());
+        assertEquals("Cierra Vega", document.get("name"));
+        assertEquals(20, document.get("age"));
+        assertEquals(9_000_000_000L, document.get("aLong"));
+    }
+
+    @Test
+    void testToRepresentativeDocument_usesMostFrequentTypeOfField() {
+        SampledCollectionSchema schema = new SampledCollectionSchema();
+        schema.add(new Document("age", "50"));
+        schema.add(new Document("age", 20));
+        schema.add(new Document("age", 30));
+        schema.add(new Document("age", null).append("nickname", null));
+
+        Document document = schema.toRepresentativeDocument();
+
+        assertEquals(20, document.get("age"));
+        assertNull(document.get("nickname"));
+    }
+}
@@ -1,5 +1,8 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResultSizeAccountant;
+import com.external.plugins.exceptions.MssqlPluginError;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
@@ -72,7 +75,8 @@ public class MssqlExecuteUtils {
             boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
-            PreparedStatement preparedQuery)
+            PreparedStatement preparedQuery,
+            ResultSizeAccountant resultSizeAccountant)
             throws SQLException {
 
         if (!isResultSet) {
@@ -125,6 +129,11 @@ public class MssqlExecuteUtils {
                 }
 
                 rowsList.add(row);
+
+                if (!resultSizeAccountant.addRow(row)) {
+                    throw new AppsmithPluginException(
+                            MssqlPluginError.RESPONSE_SIZE_TOO_LARGE, resultSizeAccountant.getMaxSizeInMb());
+                }
             }
         }
     }
@@ -15,6 +15,7 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -49,6 +50,7 @@ import static com.external.plugins.MssqlTestDBContainerManager.mssqlPluginExecut
 import static com.external.plugins.MssqlTestDBContainerManager.runSQLQueryOnMssqlTestDB;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -56,6 +58,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @Testcontainers
 public class MssqlPluginTest {
 
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @Container
     public static final MSSQLServerContainer container = MssqlTestDBContainerManager.getMssqlDBForTest();
@@ -215,6 +235,34 @@ public class MssqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecute_whenResponseIsTooLarge_returnsResponseSizeError() {
+        MssqlPlugin.MssqlPluginExecutor limitedExecutor =
+                new MssqlPlugin.MssqlPluginExecutor(new MockSharedConfig() {
+                    @Override
+                    public int getMaxResponseSize() {
+                        return 1000;
+                    }
+                });
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration(container);
+        Mono<HikariDataSource> dsConnectionMono = limitedExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT REPLICATE('a', 2000) AS filler");
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                limitedExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            MssqlPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            result.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void invalidTestConnectMsSqlContainer() {
 
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeAccountant;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -27,6 +28,7 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
@@ -170,6 +172,12 @@ public class MySqlPlugin extends BasePlugin {
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -317,6 +325,8 @@ public class MySqlPlugin extends BasePlugin {
 
             final List<Map<String, Object>> rowsList = new ArrayList<>(50);
             final List<String> columnsList = new ArrayList<>();
+            final ResultSizeAccountant resultSizeAccountant =
+                    new ResultSizeAccountant(sharedConfig.getMaxResponseSize());
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
             List<RequestParamDTO> requestParams =
@@ -354,7 +364,14 @@ public class MySqlPlugin extends BasePlugin {
                                 if (isSelectOrShowOrDescQuery) {
                                     resultMono = resultFlux
                                             .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
+                                                Map<String, Object> processedRow = getRow(row, meta);
+                                                rowsList.add(processedRow);
+
+                                                if (!resultSizeAccountant.addRow(processedRow)) {
+                                                    throw new AppsmithPluginException(
+                                                            MySQLPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                            resultSizeAccountant.getMaxSizeInMb());
+                                                }
 
                                                 if (columnsList.isEmpty()) {
                                                     meta.getColumnMetadatas().stream()
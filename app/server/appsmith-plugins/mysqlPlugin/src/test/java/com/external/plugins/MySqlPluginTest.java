@@ -18,6 +18,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -75,7 +76,25 @@ import static reactor.core.publisher.Mono.zip;
 @Testcontainers
 public class MySqlPluginTest {
 
-    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig());
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is
     // pseudo-optional.
@@ -388,6 +407,33 @@ public class MySqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecute_whenResponseIsTooLarge_returnsResponseSizeError() {
+        MySqlPlugin.MySqlPluginExecutor limitedExecutor =
+                new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig() {
+                    @Override
+                    public int getMaxResponseSize() {
+                        return 1000;
+                    }
+                });
+        Mono<ConnectionContext<ConnectionPool>> connectionContextMono = limitedExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT REPEAT('a', 2000) AS filler");
+
+        Mono<Object> executeMono = connectionContextMono.flatMap(conn ->
+                limitedExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            MySQLPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            result.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteWithFormattingWithShowCmd() {
         dsConfig = createDatasourceConfiguration();
@@ -1202,7 +1248,7 @@ public class MySqlPluginTest {
 
     @Test
     public void testNullObjectWithPreparedStatement() {
-        pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor());
+        pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig()));
         doReturn(false).when(pluginExecutor).isIsOperatorUsed(any());
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<ConnectionContext<ConnectionPool>> connectionContextMono = pluginExecutor.datasourceCreate(dsConfig);
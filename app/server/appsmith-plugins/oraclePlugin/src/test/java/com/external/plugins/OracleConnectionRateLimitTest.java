@@ -16,7 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 @Testcontainers
 public class OracleConnectionRateLimitTest {
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(new OracleExecutionTest.MockSharedConfig());
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @Container
@@ -4,6 +4,8 @@ import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.services.SharedConfig;
+import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -25,10 +27,30 @@ import static com.external.plugins.OracleTestDBContainerManager.getDefaultDataso
 import static com.external.plugins.OracleTestDBContainerManager.oraclePluginExecutor;
 import static com.external.plugins.OracleTestDBContainerManager.runSQLQueryOnOracleTestDB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
 public class OracleExecutionTest {
+
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     public static final String SQL_QUERY_CREATE_TABLE_FORMAT = "create table {0} (\n" + "c_varchar2   varchar2(20),\n"
             + "c_nvarchar2 nvarchar2(20),\n"
             + "c_number number,\n"
@@ -164,6 +186,31 @@ public class OracleExecutionTest {
         verifyColumnValue(executionResultMono, expectedResultString);
     }
 
+    @Test
+    public void testSelectQuery_whenResponseIsTooLarge_returnsResponseSizeError() {
+        OraclePlugin.OraclePluginExecutor limitedExecutor =
+                new OraclePlugin.OraclePluginExecutor(new MockSharedConfig() {
+                    @Override
+                    public int getMaxResponseSize() {
+                        return 1000;
+                    }
+                });
+        Map formData = setDataValueSafelyInFormData(null, "body", "SELECT RPAD('a', 2000, 'a') AS filler FROM dual");
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setFormData(formData);
+        Mono<ActionExecutionResult> executionResultMono = limitedExecutor.executeParameterized(
+                sharedConnectionPool, new ExecuteActionDTO(), getDefaultDatasourceConfig(oracleDB), actionConfig);
+
+        StepVerifier.create(executionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertFalse(actionExecutionResult.getIsExecutionSuccess());
+                    assertEquals(
+                            OraclePluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            actionExecutionResult.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testSelectQueryWithPreparedStatementWithBinding() {
         String sqlSelectQuery = MessageFormat.format(
@@ -9,6 +9,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeAccountant;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -45,7 +46,9 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
@@ -87,7 +90,6 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -129,8 +131,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -188,6 +188,8 @@ public class PostgresPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private static final int STREAMING_FETCH_SIZE = 1000;
+
         private final SharedConfig sharedConfig;
         private final ConnectionPoolConfig connectionPoolConfig;
 
@@ -236,24 +238,7 @@ public class PostgresPlugin extends BasePlugin {
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -279,6 +264,227 @@ public class PostgresPlugin extends BasePlugin {
                     explicitCastDataTypes);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isStreamingSupported() {
+            return true;
+        }
+
+        /**
+         * Streams the rows of the query result instead of collecting them into a list first. Rows are read from the
+         * database in batches of STREAMING_FETCH_SIZE through a server side cursor. Postgres only uses a cursor inside
+         * a transaction, hence auto commit stays turned off for as long as the stream is open.
+         */
+        @Override
+        public Flux<List<Object>> executeParameterizedStreaming(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            final List<MustacheBindingToken> mustacheKeysInOrder;
+            final List<DataType> explicitCastDataTypes;
+            if (FALSE.equals(preparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+                explicitCastDataTypes = null;
+            } else {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                actionConfiguration.setBody(updatedQuery);
+            }
+            final String finalQuery = actionConfiguration.getBody();
+
+            return Flux.using(
+                            () -> openStreamingQuery(
+                                    connection,
+                                    finalQuery,
+                                    preparedStatement,
+                                    mustacheKeysInOrder,
+                                    executeActionDTO,
+                                    explicitCastDataTypes),
+                            streamingQuery -> Flux.<List<Object>>generate(streamingQuery::emitNext),
+                            StreamingQuery::close)
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof SQLException e ? "SQLSTATE: " + e.getSQLState() : null))
+                    .subscribeOn(scheduler);
+        }
+
+        private StreamingQuery openStreamingQuery(
+                HikariDataSource connection,
+                String query,
+                Boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes)
+                throws SQLException {
+
+            Connection connectionFromPool;
+            try {
+                connectionFromPool =
+                        postgresDatasourceUtils.getConnectionFromHikariConnectionPool(connection, POSTGRES_PLUGIN_NAME);
+            } catch (SQLException e) {
+                // Same as in executeCommon, a failure to get a connection from the pool should recreate the pool.
+                throw new StaleConnectionException(e.getMessage());
+            }
+
+            StreamingQuery streamingQuery = new StreamingQuery(connectionFromPool);
+            try {
+                connectionFromPool.setAutoCommit(false);
+                boolean isResultSet;
+                if (FALSE.equals(preparedStatement)) {
+                    streamingQuery.statement = connectionFromPool.createStatement();
+                    streamingQuery.statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    isResultSet = streamingQuery.statement.execute(query);
+                } else {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+                    streamingQuery.statement = preparedQuery;
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                            preparedQuery,
+                            mustacheValuesInOrder,
+                            executeActionDTO.getParams(),
+                            new ArrayList<>(),
+                            connectionFromPool,
+                            explicitCastDataTypes);
+                    isResultSet = preparedQuery.execute();
+                }
+                streamingQuery.start(isResultSet);
+                return streamingQuery;
+            } catch (SQLException | RuntimeException e) {
+                streamingQuery.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Holds the JDBC resources of a query whose rows are being streamed, they are released once the stream
+         * terminates or gets cancelled. A cancellation closes the query from the thread that cancelled, so reading
+         * the next row and closing are synchronized, the result set is never closed while a row is being read.
+         */
+        private static class StreamingQuery {
+
+            private final Connection connection;
+            private Statement statement;
+            private ResultSet resultSet;
+            private ResultSetMetaData metaData;
+            private Object affectedRows;
+            private boolean columnsEmitted = false;
+            private boolean committed = false;
+            private boolean closed = false;
+
+            StreamingQuery(Connection connection) {
+                this.connection = connection;
+            }
+
+            void start(boolean isResultSet) throws SQLException {
+                if (isResultSet) {
+                    resultSet = statement.getResultSet();
+                    metaData = resultSet.getMetaData();
+                } else {
+                    affectedRows = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
+                }
+            }
+
+            synchronized void emitNext(SynchronousSink<List<Object>> sink) {
+                if (closed) {
+                    // Cancelled in the meantime, nobody is waiting for more rows
+                    sink.complete();
+                    return;
+                }
+                try {
+                    if (!columnsEmitted) {
+                        columnsEmitted = true;
+                        sink.next(
+                                resultSet == null
+                                        ? List.<Object>of("affectedRows")
+                                        : new ArrayList<Object>(getColumnsListForJdbcPlugin(metaData)));
+                        return;
+                    }
+
+                    if (resultSet == null && affectedRows != null) {
+                        sink.next(List.of(affectedRows));
+                        affectedRows = null;
+                        return;
+                    }
+
+                    if (resultSet != null && resultSet.next()) {
+                        int colCount = metaData.getColumnCount();
+                        List<Object> row = new ArrayList<>(colCount);
+                        for (int i = 1; i <= colCount; i++) {
+                            row.add(getColumnValue(resultSet, metaData, i));
+                        }
+                        sink.next(row);
+                        return;
+                    }
+
+                    connection.commit();
+                    committed = true;
+                    sink.complete();
+                } catch (SQLException | IOException e) {
+                    sink.error(e);
+                }
+            }
+
+            synchronized void close() {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    if (resultSet != null) {
+                        resultSet.close();
+                    }
+                    if (statement != null) {
+                        statement.close();
+                    }
+                    if (!committed) {
+                        connection.rollback();
+                    }
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    log.debug("Error closing streamed Postgres query", e);
+                } finally {
+                    try {
+                        // Return the connection back to the pool
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("Execute Error returning Postgres connection to pool", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             ActionConfiguration actionConfig = new ActionConfiguration();
@@ -414,87 +620,29 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
+                                ResultSizeAccountant resultSizeAccountant =
+                                        new ResultSizeAccountant(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the
                                     // response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
 
                                     for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
+                                        row.put(metaData.getColumnName(i), getColumnValue(resultSet, metaData, i));
                                     }
 
                                     rowsList.add(row);
 
-                                    iterator++;
+                                    if (!resultSizeAccountant.addRow(row)) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED,
+                                                resultSizeAccountant.getSize());
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                resultSizeAccountant.getMaxSizeInMb()));
+                                    }
                                 }
                             }
 
@@ -599,6 +747,61 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the value of a single column of the current row, converting the types that do not serialize well as
+         * they are returned by the driver.
+         */
+        private static Object getColumnValue(ResultSet resultSet, ResultSetMetaData metaData, int i)
+                throws SQLException, IOException {
+            Object value;
+            final String typeName = metaData.getColumnTypeName(i);
+
+            if (resultSet.getObject(i) == null) {
+                value = null;
+
+            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                resultSet.getDate(i).toLocalDate(),
+                                resultSet.getTime(i).toLocalTime()))
+                        + "Z";
+
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getString(i);
+
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getObject(i).toString();
+
+            } else if (typeName.startsWith("_")) {
+                value = resultSet.getArray(i).getArray();
+
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = objectMapper.readTree(resultSet.getString(i));
+            } else {
+                value = resultSet.getObject(i);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                 * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                 * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                 * are only interested in the value and not the type, it makes sense to extract out
+                 * the value as a string.
+                 * Reference:
+                 * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    value = ((PGobject) value).getValue();
+                }
+            }
+
+            return value;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
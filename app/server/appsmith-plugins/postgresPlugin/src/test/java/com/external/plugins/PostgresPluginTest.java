@@ -48,6 +48,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -422,6 +423,34 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteStreaming_whenQueryFailsMidStream_emitsErrorAndReleasesConnection() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        // Rows are fetched 1000 at a time, the division by zero fails the second batch
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT g, 1 / (1500 - g) AS ratio FROM generate_series(1, 2000) g");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        AtomicInteger rowCount = new AtomicInteger();
+        StepVerifier.create(pluginExecutor.executeParameterizedStreaming(
+                        connection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .expectNext(List.of("g", "ratio"))
+                .thenConsumeWhile(row -> true, row -> rowCount.incrementAndGet())
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof AppsmithPluginException);
+                    assertTrue(((AppsmithPluginException) error)
+                            .getDownstreamErrorMessage()
+                            .contains("division by zero"));
+                })
+                .verify();
+
+        assertTrue(rowCount.get() > 0 && rowCount.get() < 1499);
+        assertEquals(0, connection.getHikariPoolMXBean().getActiveConnections());
+        pluginExecutor.datasourceDestroy(connection);
+    }
+
     @Test
     public void testExecute() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
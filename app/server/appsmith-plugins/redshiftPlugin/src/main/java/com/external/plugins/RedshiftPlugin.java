@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSizeAccountant;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +14,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -129,6 +131,12 @@ public class RedshiftPlugin extends BasePlugin {
                         + "         kcu.table_name,\n"
                         + "         kcu.ordinal_position;\n";
 
+        private final SharedConfig sharedConfig;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private void checkResultSetValidity(ResultSet resultSet) throws AppsmithPluginException {
             if (resultSet == null) {
                 log.debug("Redshift plugin: getRow: driver failed to fetch result: resultSet is null.");
@@ -251,9 +259,17 @@ public class RedshiftPlugin extends BasePlugin {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                ResultSizeAccountant resultSizeAccountant =
+                                        new ResultSizeAccountant(sharedConfig.getMaxResponseSize());
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
                                     rowsList.add(row);
+
+                                    if (!resultSizeAccountant.addRow(row)) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                resultSizeAccountant.getMaxSizeInMb()));
+                                    }
                                 }
                             } else {
                                 rowsList.add(Map.of(
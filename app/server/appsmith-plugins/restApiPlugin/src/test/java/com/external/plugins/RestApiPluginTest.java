@@ -1386,6 +1386,35 @@ public class RestApiPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testInvalidJsonResponse_returnsBodyAsString() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        String baseUrl = String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort());
+        dsConfig.setUrl(baseUrl);
+
+        // The parser reads past the valid start of the body before failing, the whole body must still be returned
+        String responseBody = "{\"name\": \"Café\", \"truncated";
+        mockEndpoint.enqueue(
+                new MockResponse().setBody(responseBody).addHeader("Content-Type", "application/json; charset=utf-8"));
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(responseBody, result.getBody());
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages()
+                            .iterator()
+                            .next()
+                            .startsWith("The response returned by this API is not a valid JSON."));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testRequestWithApiKeyHeader() {
         DatasourceConfiguration dsConfig = new DatasourceConfiguration();
@@ -74,6 +74,8 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Mono<ActionCollection> archiveById(String id);
 
+    Mono<Integer> publishActionCollections(String applicationId, AclPermission permission);
+
     Mono<ActionCollection> findByBranchNameAndDefaultCollectionId(
             String branchName, String defaultCollectionId, AclPermission permission);
 
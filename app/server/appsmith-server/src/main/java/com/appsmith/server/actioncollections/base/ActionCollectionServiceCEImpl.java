@@ -525,6 +525,20 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
                         deletedActionCollection, getAnalyticsProperties(deletedActionCollection)));
     }
 
+    /**
+     * Publishes the action collections of an application. Collections deleted in edit mode are archived along with
+     * their actions, and the rest are published in bulk by setting publishedCollection=unpublishedCollection.
+     *
+     * @return the number of action collections published
+     */
+    @Override
+    public Mono<Integer> publishActionCollections(String applicationId, AclPermission permission) {
+        return repository
+                .findDeletedUnpublishedByApplicationId(applicationId, permission)
+                .flatMap(this::archiveGivenActionCollection)
+                .then(Mono.defer(() -> repository.publishActionCollections(applicationId, permission)));
+    }
+
     @Override
     public Mono<ActionCollection> findByBranchNameAndDefaultCollectionId(
             String branchName, String defaultCollectionId, AclPermission permission) {
@@ -0,0 +1,108 @@
+package com.appsmith.server.aspect;
+
+import com.appsmith.external.annotations.FeatureFlagged;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the method to fall back to for every method annotated with {@link FeatureFlagged}, when its feature flag is
+ * disabled. The fallback is the same method on the bean of the superclass, e.g. the CE compatible implementation of
+ * an EE service, and it is bound to that bean as a {@link MethodHandle}.
+ * <p>
+ * The fallbacks are resolved once all the singletons are created, so that calling a feature flagged method neither
+ * looks up beans nor resolves methods by reflection. Methods of beans created later on are resolved on their first
+ * call.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeatureFlaggedMethodFallbackRegistry implements SmartInitializingSingleton {
+
+    // Every fallback is adapted to this type, so that it can be invoked with the arguments of the intercepted call
+    private static final MethodType FALLBACK_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final ApplicationContext applicationContext;
+
+    private final Map<FallbackKey, MethodHandle> fallbackMethods = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetClass = ClassUtils.getUserClass(beanType);
+            for (Method method : targetClass.getMethods()) {
+                if (!method.isAnnotationPresent(FeatureFlagged.class)) {
+                    continue;
+                }
+                try {
+                    getFallbackMethod(targetClass, method);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // The error surfaces again when the method is called with its feature flag disabled
+                    log.warn(
+                            "Unable to resolve the fallback for {}.{}",
+                            targetClass.getSimpleName(),
+                            method.getName(),
+                            e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the fallback of a feature flagged method, bound to the bean it is to be called on. The returned handle
+     * takes the arguments of the call as an {@code Object[]} and returns an {@code Object}.
+     *
+     * @param targetClass class of the bean the feature flagged method was called on
+     * @param method      the feature flagged method
+     */
+    public MethodHandle getFallbackMethod(Class<?> targetClass, Method method) throws ReflectiveOperationException {
+        FallbackKey key = new FallbackKey(targetClass, method);
+        MethodHandle fallbackMethod = fallbackMethods.get(key);
+        if (fallbackMethod == null) {
+            fallbackMethod = resolveFallbackMethod(targetClass, method);
+            fallbackMethods.putIfAbsent(key, fallbackMethod);
+        }
+        return fallbackMethod;
+    }
+
+    private MethodHandle resolveFallbackMethod(Class<?> targetClass, Method method)
+            throws ReflectiveOperationException {
+        Class<?> targetSuperClass = targetClass.getSuperclass();
+        Object service = applicationContext
+                .getBeansOfType(targetSuperClass)
+                .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
+        if (service == null) {
+            throw new IllegalStateException("No bean found for " + targetSuperClass.getName());
+        }
+        Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
+        return MethodHandles.publicLookup()
+                .unreflect(superMethod)
+                .bindTo(service)
+                .asSpreader(Object[].class, superMethod.getParameterCount())
+                .asType(FALLBACK_TYPE);
+    }
+
+    /**
+     * Method to get default bean name from java classes as per <a href="https://docs.spring.io/spring-framework/docs/5.2.3.RELEASE/spring-framework-reference/core.html#beans-beanname">Spring naming convention</a>
+     */
+    private String getSpringDefaultBeanName(String beanClassName) {
+        return Introspector.decapitalize(beanClassName);
+    }
+
+    private record FallbackKey(Class<?> targetClass, Method method) {}
+}
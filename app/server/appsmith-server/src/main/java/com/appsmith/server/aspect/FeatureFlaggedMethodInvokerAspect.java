@@ -13,12 +13,11 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 @RequiredArgsConstructor
@@ -29,7 +28,7 @@ public class FeatureFlaggedMethodInvokerAspect {
 
     private final FeatureFlagService featureFlagService;
 
-    private final ApplicationContext applicationContext;
+    private final FeatureFlaggedMethodFallbackRegistry fallbackRegistry;
 
     /**
      * Intercepts method calls that are annotated with {@link FeatureFlagged}.
@@ -74,12 +73,9 @@ public class FeatureFlaggedMethodInvokerAspect {
             if (Boolean.TRUE.equals(isFeatureSupported)) {
                 return joinPoint.proceed(joinPoint.getArgs());
             }
-            Class<?> targetSuperClass = joinPoint.getTarget().getClass().getSuperclass();
-            Object service = applicationContext
-                    .getBeansOfType(targetSuperClass)
-                    .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
-            Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
-            return superMethod.invoke(service, joinPoint.getArgs());
+            MethodHandle fallbackMethod =
+                    fallbackRegistry.getFallbackMethod(joinPoint.getTarget().getClass(), method);
+            return (Object) fallbackMethod.invokeExact(joinPoint.getArgs());
         } catch (Throwable e) {
             if (e instanceof AppsmithException) {
                 throw (AppsmithException) e;
@@ -91,13 +87,6 @@ public class FeatureFlaggedMethodInvokerAspect {
         }
     }
 
-    /**
-     * Method to get default bean name from java classes as per <a href="https://docs.spring.io/spring-framework/docs/5.2.3.RELEASE/spring-framework-reference/core.html#beans-beanname">Spring naming convention</a>
-     */
-    private String getSpringDefaultBeanName(String beanClassName) {
-        return Introspector.decapitalize(beanClassName);
-    }
-
     AppsmithException getInvalidAnnotationUsageException(Method method, String error) {
         return new AppsmithException(
                 AppsmithError.INVALID_METHOD_LEVEL_ANNOTATION_USAGE,
@@ -0,0 +1,31 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Limits for the datasource contexts (connections and connection pools) kept in memory by DatasourceContextService.
+ */
+@Getter
+@Configuration
+public class DatasourceContextConfig {
+
+    // Contexts that have not been used for this long are destroyed
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:60}")
+    private long idleTimeoutMinutes;
+
+    // Maximum number of contexts kept across all plugins, least recently used contexts are destroyed first
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private int maxSize;
+
+    // Maximum number of contexts kept for a single plugin, 0 means no per-plugin limit
+    @Value("${appsmith.datasource.context.max-per-plugin:0}")
+    private int maxPerPlugin;
+
+    public Duration getIdleTimeout() {
+        return Duration.ofMinutes(idleTimeoutMinutes);
+    }
+}
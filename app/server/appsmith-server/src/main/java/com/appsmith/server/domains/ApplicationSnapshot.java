@@ -9,7 +9,8 @@ import lombok.experimental.FieldNameConstants;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
- * This stores a snapshot of an application. If a snapshot is more than 15 MB, we'll break it into smaller chunks.
+ * This stores a snapshot of an application, as gzip compressed json. If a snapshot is more than 15 MB, we'll break it
+ * into smaller chunks. Snapshots taken before compression was introduced hold the plain json.
  * Both the root chunk and the child chunks will be stored in this collection.
  * We'll use some attributes to create and maintain the sequence of the chunks.
  */
@@ -1,10 +1,12 @@
 package com.appsmith.server.domains;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +16,36 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Id of the plugin that created the connection, needed to destroy the connection on eviction
+    String pluginId;
+
+    volatile Instant lastAccessTime;
+
+    // Number of executions currently using the connection, a context in use is never evicted
+    @Getter(AccessLevel.NONE)
+    final AtomicInteger executionsInFlight = new AtomicInteger();
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessTime = creationTime;
+    }
+
+    /**
+     * Marks the context as used now, so that it is not evicted as idle.
+     */
+    public void touch() {
+        lastAccessTime = Instant.now();
+    }
+
+    public void executionStarted() {
+        executionsInFlight.incrementAndGet();
+    }
+
+    public void executionFinished() {
+        executionsInFlight.decrementAndGet();
+    }
+
+    public boolean isInUse() {
+        return executionsInFlight.get() > 0;
     }
 }
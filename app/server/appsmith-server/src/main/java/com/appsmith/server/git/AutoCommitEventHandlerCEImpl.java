@@ -54,6 +54,8 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
     public static final String AUTO_COMMIT_MSG_FORMAT =
             "System generated commit, to support new features in Appsmith %s";
 
+    private static final int PAGE_MIGRATION_CONCURRENCY = 4;
+
     @Override
     public void publish(AutoCommitEvent autoCommitEvent) {
         applicationEventPublisher.publishEvent(autoCommitEvent);
@@ -249,16 +251,19 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                     return false;
                 })
                 .map(NewPage::getUnpublishedPage)
-                .flatMap(pageDTO -> {
-                    Layout layout = pageDTO.getLayouts().get(0);
-                    return dslMigrationUtils
-                            .migratePageDsl(layout.getDsl())
-                            .map(migratedDsl -> {
-                                layout.setDsl(migratedDsl);
-                                return migratedDsl;
-                            })
-                            .thenReturn(pageDTO.getName());
-                })
+                .flatMap(
+                        pageDTO -> {
+                            Layout layout = pageDTO.getLayouts().get(0);
+                            return dslMigrationUtils
+                                    .migratePageDsl(layout.getDsl())
+                                    .map(migratedDsl -> {
+                                        layout.setDsl(migratedDsl);
+                                        return migratedDsl;
+                                    })
+                                    .thenReturn(pageDTO.getName());
+                        },
+                        // Keeps the number of page DSLs held in flight to RTS bounded for applications with many pages
+                        PAGE_MIGRATION_CONCURRENCY)
                 .collectList();
     }
 
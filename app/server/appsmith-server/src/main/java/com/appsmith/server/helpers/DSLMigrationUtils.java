@@ -8,13 +8,31 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 public class DSLMigrationUtils {
 
+    // The latest DSL version only changes when RTS is upgraded, so there is no need to ask RTS for it on every call
+    private static final Duration LATEST_DSL_VERSION_TTL = Duration.ofMinutes(5);
+
     private final RTSCaller rtsCaller;
 
+    // Errors are not cached, so that a failed lookup is retried on the next call
+    private final Mono<Integer> cachedLatestDslVersion = Mono.defer(this::fetchLatestDslVersion)
+            .cache(version -> LATEST_DSL_VERSION_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+
+    /**
+     * Returns the latest DSL version supported by RTS. The version is looked up from RTS at most once every few
+     * minutes, which lets the callers tell the pages that are already at the latest version apart without a round
+     * trip to RTS.
+     */
     public Mono<Integer> getLatestDslVersion() {
+        return cachedLatestDslVersion;
+    }
+
+    private Mono<Integer> fetchLatestDslVersion() {
         ParameterizedTypeReference<ResponseDTO<DslVersionDTO>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
         return rtsCaller
@@ -3,15 +3,28 @@ package com.appsmith.server.helpers.ce.bridge;
 import lombok.NonNull;
 import org.apache.commons.lang.NotImplementedException;
 import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class BridgeUpdate implements UpdateDefinition {
     private final Update update = new Update();
 
+    // Fields to be set to the current value of another field of the same document, keyed by the field to set
+    private final Map<String, String> fieldReferences = new LinkedHashMap<>();
+
+    // Fields to be set to the time the update is run at, as seen by the database
+    private final Set<String> currentTimeFields = new LinkedHashSet<>();
+
     public BridgeUpdate set(@NonNull String key, Object value) {
         update.set(key, value);
         return this;
@@ -30,8 +43,45 @@ public class BridgeUpdate implements UpdateDefinition {
     /**
      * Set the value of the field `key`, to the current value of the field `valueKey`.
      */
-    public BridgeUpdate setToValueFromField(String key, String valueKey) {
-        throw new NotImplementedException("Not implemented here yet, but is ready on Postgres");
+    public BridgeUpdate setToValueFromField(@NonNull String key, @NonNull String valueKey) {
+        fieldReferences.put(key, valueKey);
+        return this;
+    }
+
+    /**
+     * Set the value of the field `key`, to the time the update is run at.
+     */
+    public BridgeUpdate setToCurrentTime(@NonNull String key) {
+        currentTimeFields.add(key);
+        return this;
+    }
+
+    /**
+     * Returns the update to be sent to the database. If any field is set from the value of another field, or to the
+     * current time, the update is run as an update with an aggregation pipeline, so that the value is computed within
+     * the database, without the documents being read by the server.
+     */
+    public UpdateDefinition toUpdateDefinition() {
+        if (fieldReferences.isEmpty() && currentTimeFields.isEmpty()) {
+            return this;
+        }
+
+        final Document updateObject = update.getUpdateObject();
+        if (updateObject.keySet().stream().anyMatch(operator -> !"$set".equals(operator))) {
+            throw new NotImplementedException(
+                    "Only set operations can be combined with setToValueFromField and setToCurrentTime");
+        }
+
+        final AggregationUpdate aggregationUpdate = AggregationUpdate.update();
+        final Document setObject = updateObject.get("$set", Document.class);
+        if (setObject != null) {
+            setObject.forEach(
+                    (key, value) -> aggregationUpdate.set(key).toValue(LiteralOperators.Literal.asLiteral(value)));
+        }
+        fieldReferences.forEach((key, valueKey) -> aggregationUpdate.set(key).toValueOf(Fields.field(valueKey)));
+        currentTimeFields.forEach(key -> aggregationUpdate.set(key).toValue("$$NOW"));
+
+        return aggregationUpdate;
     }
 
     @Override
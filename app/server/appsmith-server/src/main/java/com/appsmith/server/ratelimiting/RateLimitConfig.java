@@ -1,11 +1,15 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
@@ -18,7 +22,6 @@ import org.springframework.context.annotation.Configuration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Configuration
 @Slf4j
@@ -28,6 +31,11 @@ public class RateLimitConfig {
     @Autowired
     private final AbstractRedisClient redisClient;
 
+    private final Cache<String, AsyncBucketProxy> asyncBuckets = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
     public RateLimitConfig(AbstractRedisClient redisClient) {
         this.redisClient = redisClient;
     }
@@ -71,14 +79,20 @@ public class RateLimitConfig {
         return apiBuckets;
     }
 
-    public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
+    /*
+     Returns a non-blocking proxy for the bucket, backed by the async lettuce commands. Proxies are kept locally so
+     that repeated checks for the same user reuse them, and concurrent checks on the same proxy are batched into a
+     single redis round trip. The token count itself always lives in redis, so limits hold across all nodes.
+     The configuration passed here is only used when the bucket doesn't exist in redis yet, an existing bucket keeps
+     the configuration it was created with.
+    */
+    public AsyncBucketProxy getOrCreateAPIUserSpecificAsyncBucket(String apiIdentifier, String userId) {
         String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
-
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier));
+        return asyncBuckets.get(bucketIdentifier, key -> proxyManager()
+                .asAsync()
+                .builder()
+                .withOptimization(Optimizations.batching())
+                .build(key.getBytes(), apiConfigurationMap.get(apiIdentifier)));
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
@@ -4,6 +4,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.ratelimiting.RateLimitConfig;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.BucketProxy;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
@@ -39,11 +40,13 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
     public Mono<Boolean> tryIncreaseCounter(String apiIdentifier, String userIdentifier) {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
+                // The bucket is consumed with non-blocking redis commands, so this doesn't need a separate thread pool
                 .flatMap(isInputValid -> {
-                    BucketProxy userSpecificBucket =
-                            rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
+                    AsyncBucketProxy userSpecificBucket =
+                            rateLimitConfig.getOrCreateAPIUserSpecificAsyncBucket(apiIdentifier, userIdentifier);
 
-                    return Mono.just(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+                    return Mono.fromFuture(
+                            () -> userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
                 })
                 .map(isSuccessful -> {
                     if (FALSE.equals(isSuccessful)) {
@@ -55,27 +58,16 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return isSuccessful;
-                })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                });
     }
 
     @Override
     public Mono<Void> resetCounter(String apiIdentifier, String userIdentifier) {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
-                .flatMap(isInputValid -> {
-                    rateLimitConfig
-                            .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
-                            .reset();
-
-                    return Mono.just(TRUE);
-                })
-                .then()
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                .flatMap(isInputValid -> Mono.fromFuture(() -> rateLimitConfig
+                        .getOrCreateAPIUserSpecificAsyncBucket(apiIdentifier, userIdentifier)
+                        .reset()));
     }
 
     /* **************************************************************************************************** */
@@ -155,7 +147,6 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return Mono.just(true);
-                })
-                .subscribeOn(scheduler);
+                });
     }
 }
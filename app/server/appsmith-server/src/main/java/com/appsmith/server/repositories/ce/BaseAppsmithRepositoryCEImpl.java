@@ -194,6 +194,18 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                         : getStrictPermissionGroupsForUser(user));
     }
 
+    /**
+     * Adds the audit fields to an update that is run straight on the database, i.e. sets updatedAt to the time of the
+     * update and modifiedBy to the current user.
+     */
+    protected Mono<BridgeUpdate> withAuditFields(BridgeUpdate update) {
+        update.setToCurrentTime(BaseDomain.Fields.updatedAt);
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
+                .map(user -> update.set(BaseDomain.Fields.modifiedBy, user.getUsername()))
+                .defaultIfEmpty(update);
+    }
+
     protected Query createQueryWithPermission(
             List<Criteria> criterias, Set<String> permissionGroups, AclPermission aclPermission) {
         return createQueryWithPermission(criterias, null, permissionGroups, aclPermission);
@@ -366,13 +378,15 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             }
 
             final Query query = createQueryWithPermission(params.getCriteria(), null, permissionGroups, permission);
+            final UpdateDefinition updateDefinition =
+                    update instanceof BridgeUpdate bridgeUpdate ? bridgeUpdate.toUpdateDefinition() : update;
             if (QueryAllParams.Scope.ALL.equals(params.getScope())) {
                 return mongoOperations
-                        .updateMulti(query, update, genericDomain)
+                        .updateMulti(query, updateDefinition, genericDomain)
                         .map(updateResult -> Math.toIntExact(updateResult.getMatchedCount()));
             } else if (QueryAllParams.Scope.FIRST.equals(params.getScope())) {
                 return mongoOperations
-                        .updateFirst(query, update, genericDomain)
+                        .updateFirst(query, updateDefinition, genericDomain)
                         .map(updateResult -> Math.toIntExact(updateResult.getMatchedCount()));
             } else {
                 return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "scope"));
@@ -49,4 +49,8 @@ public interface CustomActionCollectionRepositoryCE extends AppsmithRepository<A
             String contextId, CreatorContextType contextType, AclPermission permission);
 
     Flux<ActionCollection> findByPageIdAndViewMode(String pageId, boolean viewMode, AclPermission permission);
+
+    Flux<ActionCollection> findDeletedUnpublishedByApplicationId(String applicationId, AclPermission permission);
+
+    Mono<Integer> publishActionCollections(String applicationId, AclPermission permission);
 }
@@ -9,6 +9,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
@@ -240,4 +241,33 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
 
         return queryBuilder().criteria(query).permission(permission).all();
     }
+
+    @Override
+    public Flux<ActionCollection> findDeletedUnpublishedByApplicationId(
+            String applicationId, AclPermission permission) {
+        final BridgeQuery<ActionCollection> query = Bridge.<ActionCollection>equal(
+                        ActionCollection.Fields.applicationId, applicationId)
+                .isNotNull(ActionCollection.Fields.unpublishedCollection_deletedAt);
+
+        return queryBuilder().criteria(query).permission(permission).all();
+    }
+
+    /**
+     * Copies the unpublished collection over the published collection of every action collection in the application,
+     * within the database, and returns the number of action collections published.
+     */
+    @Override
+    public Mono<Integer> publishActionCollections(String applicationId, AclPermission permission) {
+        final BridgeQuery<ActionCollection> query = Bridge.equal(ActionCollection.Fields.applicationId, applicationId);
+
+        final BridgeUpdate update = Bridge.update();
+        update.setToValueFromField(
+                ActionCollection.Fields.publishedCollection, ActionCollection.Fields.unpublishedCollection);
+
+        return withAuditFields(update)
+                .flatMap(auditedUpdate -> queryBuilder()
+                        .criteria(query)
+                        .permission(permission)
+                        .updateAll(auditedUpdate));
+    }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
@@ -7,6 +8,8 @@ import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 @Component
 public class CustomDatasourceStorageStructureRepositoryCEImpl
         extends BaseAppsmithRepositoryImpl<DatasourceStorageStructure>
@@ -17,6 +20,8 @@ public class CustomDatasourceStorageStructureRepositoryCEImpl
         return queryBuilder()
                 .criteria(Bridge.equal(DatasourceStorageStructure.Fields.datasourceId, datasourceId)
                         .equal(DatasourceStorageStructure.Fields.environmentId, environmentId))
-                .updateFirst(Bridge.update().set(DatasourceStorageStructure.Fields.structure, structure));
+                .updateFirst(Bridge.update()
+                        .set(DatasourceStorageStructure.Fields.structure, structure)
+                        .set(BaseDomain.Fields.updatedAt, Instant.now()));
     }
 }
@@ -16,12 +16,9 @@ import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
-import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
-import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -344,31 +341,21 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         return copyUnpublishedActionToPublishedAction(getCriterionForFindByApplicationId(applicationId), permission);
     }
 
+    /**
+     * Publishes the matching actions by copying their unpublishedAction over publishedAction, as a single update with an
+     * aggregation pipeline. The actions are never read by the server, so the cost of publishing doesn't grow with the
+     * size of the actions.
+     */
     protected Mono<Void> copyUnpublishedActionToPublishedAction(
             BridgeQuery<NewAction> criteria, AclPermission permission) {
-        Mono<Set<String>> permissionGroupsMono = getCurrentUserPermissionGroupsIfRequired(permission);
-
-        return permissionGroupsMono
-                .flatMapMany(permissionGroups -> {
-                    AggregationOperation matchAggregationWithPermission;
-                    if (permission == null) {
-                        matchAggregationWithPermission = Aggregation.match(new Criteria().andOperator(notDeleted()));
-                    } else {
-                        matchAggregationWithPermission = Aggregation.match(
-                                new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
-                    }
-                    AggregationOperation matchAggregation = Aggregation.match(criteria);
-                    AggregationOperation wholeProjection = Aggregation.project(NewAction.class);
-                    AggregationOperation addFieldsOperation = Aggregation.addFields()
-                            .addField(NewAction.Fields.publishedAction)
-                            .withValueOf(Fields.field(NewAction.Fields.unpublishedAction))
-                            .build();
-                    Aggregation combinedAggregation = Aggregation.newAggregation(
-                            matchAggregation, matchAggregationWithPermission, wholeProjection, addFieldsOperation);
-                    return mongoOperations.aggregate(combinedAggregation, NewAction.class, NewAction.class);
-                })
-                .collectList()
-                .flatMap(this::bulkUpdate);
+        BridgeUpdate update = Bridge.update();
+        update.setToValueFromField(NewAction.Fields.publishedAction, NewAction.Fields.unpublishedAction);
+        return withAuditFields(update)
+                .flatMap(auditedUpdate -> queryBuilder()
+                        .criteria(criteria)
+                        .permission(permission)
+                        .updateAll(auditedUpdate))
+                .then();
     }
 
     @Override
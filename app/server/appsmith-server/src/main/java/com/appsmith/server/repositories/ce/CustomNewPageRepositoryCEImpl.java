@@ -12,22 +12,15 @@ import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
-import org.springframework.data.mongodb.core.aggregation.Fields;
-import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static com.appsmith.external.helpers.StringUtils.dotted;
-import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -216,33 +209,12 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
 
     @Override
     public Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission) {
-        Criteria applicationIdCriteria = where(NewPage.Fields.id).in(pageIds);
-
-        Mono<Set<String>> permissionGroupsMono = getCurrentUserPermissionGroupsIfRequired(permission);
-
-        return permissionGroupsMono.flatMap(permissionGroups -> {
-            return Mono.fromCallable(() -> {
-                        AggregationOperation matchAggregationWithPermission = null;
-                        if (permission == null) {
-                            matchAggregationWithPermission =
-                                    Aggregation.match(new Criteria().andOperator(notDeleted()));
-                        } else {
-                            matchAggregationWithPermission = Aggregation.match(
-                                    new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
-                        }
-                        AggregationOperation matchAggregation = Aggregation.match(applicationIdCriteria);
-                        AggregationOperation wholeProjection = Aggregation.project(NewPage.class);
-                        AggregationOperation addFieldsOperation = Aggregation.addFields()
-                                .addField(NewPage.Fields.publishedPage)
-                                .withValueOf(Fields.field(NewPage.Fields.unpublishedPage))
-                                .build();
-                        Aggregation combinedAggregation = Aggregation.newAggregation(
-                                matchAggregation, matchAggregationWithPermission, wholeProjection, addFieldsOperation);
-                        return mongoTemplate.aggregate(combinedAggregation, NewPage.class, NewPage.class);
-                    })
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .flatMap(updatedResults -> bulkUpdate(updatedResults.getMappedResults()));
-        });
+        final BridgeUpdate update = Bridge.update();
+        update.setToValueFromField(NewPage.Fields.publishedPage, NewPage.Fields.unpublishedPage);
+        final BridgeQuery<NewPage> q = Bridge.in(NewPage.Fields.id, pageIds);
+        return withAuditFields(update)
+                .flatMap(auditedUpdate -> queryBuilder().criteria(q).permission(permission).updateAll(auditedUpdate))
+                .then();
     }
 
     @Override
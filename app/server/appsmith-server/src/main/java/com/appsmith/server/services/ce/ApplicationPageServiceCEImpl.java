@@ -1211,21 +1211,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .countActionsByPluginType(applicationId)
                 .collectMap(PluginTypeAndCountDTO::getPluginType, PluginTypeAndCountDTO::getCount);
 
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService
-                                .archiveById(collection.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .flatMap(actionCollectionService::save)
-                .collectList()
+        // Archive the collections deleted in edit mode and publish the rest, the count is required for analytics
+        Mono<Integer> publishedActionCollectionsCountMono = actionCollectionService
+                .publishActionCollections(applicationId, actionPermission.getEditPermission())
                 .cache(); // caching because it's needed to send analytics attributes after publishing the app
 
         ApplicationPublishingMetaDTO applicationPublishingMetaDTO = ApplicationPublishingMetaDTO.builder()
@@ -1234,12 +1222,12 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .applicationPagesMono(publishApplicationAndPages)
                 .updatedPublishedJSLibDTOsMono(Mono.just(updatedPublishedJSLibDTOs))
                 .actionCountByPluginTypeMapMono(actionCountByPluginTypeMapMono)
-                .publishedActionCollectionsListMono(publishedActionCollectionsListMono)
+                .publishedActionCollectionsCountMono(publishedActionCollectionsCountMono)
                 .build();
 
         return publishApplicationAndPages
-                .flatMap(
-                        newPages -> Mono.when(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                .flatMap(newPages ->
+                        Mono.when(publishActionsMono, publishedActionCollectionsCountMono, publishThemeMono))
                 .then(Mono.just(Tuples.of(applicationMono, applicationPublishingMetaDTO)));
     }
 
@@ -1254,8 +1242,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
         Mono<List<ApplicationPage>> publishApplicationAndPages = publishingMetaDTO.getApplicationPagesMono();
         Mono<Map<PluginType, Integer>> publishedActionsFlux = publishingMetaDTO.getActionCountByPluginTypeMapMono();
-        Mono<List<ActionCollection>> publishedActionsCollectionFlux =
-                publishingMetaDTO.getPublishedActionCollectionsListMono();
+        Mono<Integer> publishedActionCollectionsCountMono = publishingMetaDTO.getPublishedActionCollectionsCountMono();
         Mono<Set<CustomJSLibContextDTO>> publishedJSLibDTOsMono = publishingMetaDTO.getUpdatedPublishedJSLibDTOsMono();
         String applicationId = publishingMetaDTO.getApplicationId();
         boolean isPublishedManually = publishingMetaDTO.isPublishedManually();
@@ -1265,7 +1252,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
         return Mono.zip(
                         publishApplicationAndPages,
                         publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        publishedActionCollectionsCountMono,
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, applicationPermission.getEditPermission()),
                         publishedJSLibDTOsMono,
@@ -1296,7 +1283,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     extraProperties.put(
                             "queryCount",
                             (dbQueryCount + apiCount + jsFuncCount + saasQueryCount + remoteQueryCount + aiQueryCount));
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("actionCollectionCount", objects.getT3());
                     extraProperties.put("jsLibsCount", objects.getT5().size());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
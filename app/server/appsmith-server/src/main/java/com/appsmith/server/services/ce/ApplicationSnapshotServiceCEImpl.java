@@ -16,15 +16,30 @@ import com.appsmith.server.projections.ApplicationSnapshotResponseDTO;
 import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
@@ -60,11 +75,68 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
     }
 
     private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
-        return applicationSnapshotRepository.saveAll(applicationSnapshots);
+        // The json is compressed while it is being written, and cut into chunks to avoid the mongodb document size
+        // limit. Each chunk is handed over as soon as it is full, and writing waits until the chunk before it has been
+        // requested, so only a couple of chunks are ever held in memory. Writing stops if the subscriber cancels.
+        return Flux.<byte[]>create(sink -> {
+                    final Object demandMonitor = new Object();
+                    final Runnable signalDemand = () -> {
+                        synchronized (demandMonitor) {
+                            demandMonitor.notifyAll();
+                        }
+                    };
+                    sink.onRequest(requested -> signalDemand.run());
+                    sink.onCancel(signalDemand::run);
+
+                    try (Writer writer = new OutputStreamWriter(
+                            new GZIPOutputStream(new ChunkingOutputStream(MAX_SNAPSHOT_SIZE, chunk -> {
+                                awaitDemand(sink, demandMonitor);
+                                sink.next(chunk);
+                            })),
+                            StandardCharsets.UTF_8)) {
+                        gson.toJson(applicationJson, writer);
+                    } catch (IOException | JsonIOException e) {
+                        if (!sink.isCancelled()) {
+                            sink.error(e);
+                        }
+                        return;
+                    }
+                    sink.complete();
+                })
+                // The create task waits for demand, so requests must not be queued behind it on the same worker
+                .subscribeOn(Schedulers.boundedElastic(), false)
+                .index()
+                .concatMap(
+                        indexedChunk -> {
+                            // create snapshot that'll contain the chunk of data
+                            ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
+                            applicationSnapshot.setData(indexedChunk.getT2());
+                            applicationSnapshot.setApplicationId(applicationId);
+                            applicationSnapshot.setChunkOrder(indexedChunk.getT1().intValue() + 1);
+                            return applicationSnapshotRepository.save(applicationSnapshot);
+                        },
+                        1);
+    }
+
+    /**
+     * Blocks the writing thread until the subscriber has requested another chunk.
+     *
+     * @throws IOException if the subscriber cancelled, to stop writing the rest of the json
+     */
+    private static void awaitDemand(FluxSink<byte[]> sink, Object demandMonitor) throws IOException {
+        synchronized (demandMonitor) {
+            while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+                try {
+                    demandMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting to save a snapshot chunk");
+                }
+            }
+        }
+        if (sink.isCancelled()) {
+            throw new IOException("Snapshot creation was cancelled");
+        }
     }
 
     @Override
@@ -84,12 +156,11 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         branchName, applicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
-                        .zipWith(Mono.just(application)))
+                .flatMap(application ->
+                        getApplicationJsonFromSnapShot(application.getId()).zipWith(Mono.just(application)))
                 .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
+                    ApplicationJson applicationJson = objects.getT1();
                     Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
                     return importService.restoreSnapshot(
                             application.getWorkspaceId(), application.getId(), branchName, applicationJson);
                 })
@@ -100,46 +171,37 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .map(responseUtils::updateApplicationWithDefaultResources);
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
                 .findByApplicationId(applicationId)
                 .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
                 .map(ApplicationSnapshot::getData)
                 .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
-                    }
-                    return outputStream.toString(StandardCharsets.UTF_8);
-                });
+                .flatMap(chunks -> Mono.fromCallable(() -> readApplicationJson(chunks))
+                        .subscribeOn(Schedulers.boundedElastic()));
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
+    /**
+     * Parses the application json straight from the chunks of a snapshot, without joining them first. Snapshots
+     * taken before they were compressed hold the plain json, these are told apart by the gzip header.
+     */
+    private ApplicationJson readApplicationJson(List<byte[]> chunks) throws IOException {
+        InputStream inputStream = new SequenceInputStream(Collections.enumeration(
+                chunks.stream().map(ByteArrayInputStream::new).toList()));
 
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
-            }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
-
-            // create snapshot that'll contain the chunk of data
-            ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
-            applicationSnapshot.setApplicationId(applicationId);
-            applicationSnapshot.setChunkOrder(chunkOrder);
-            applicationSnapshots.add(applicationSnapshot);
-
-            chunkOrder++;
+        if (!chunks.isEmpty() && isGzipCompressed(chunks.get(0))) {
+            inputStream = new GZIPInputStream(inputStream);
+        }
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ApplicationJson.class);
         }
-        return applicationSnapshots;
+    }
+
+    private static boolean isGzipCompressed(byte[] data) {
+        return data.length >= 2
+                && (data[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (data[1] & 0xff) == (GZIPInputStream.GZIP_MAGIC >> 8);
     }
 
     @Override
@@ -153,4 +215,59 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         .deleteAllByApplicationId(branchedAppId)
                         .thenReturn(Boolean.TRUE));
     }
+
+    /**
+     * Collects the bytes written to it into chunks of a fixed size, and hands each chunk over as soon as it is full.
+     * The last chunk is handed over on close, and may be smaller.
+     */
+    private static class ChunkingOutputStream extends OutputStream {
+        private final int chunkSize;
+        private final ChunkConsumer chunkConsumer;
+        private byte[] chunk;
+        private int position = 0;
+
+        ChunkingOutputStream(int chunkSize, ChunkConsumer chunkConsumer) {
+            this.chunkSize = chunkSize;
+            this.chunkConsumer = chunkConsumer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (chunk == null) {
+                    chunk = new byte[chunkSize];
+                }
+                int count = Math.min(length, chunkSize - position);
+                System.arraycopy(bytes, offset, chunk, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+
+                if (position == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = null;
+                    position = 0;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (position > 0) {
+                chunkConsumer.accept(Arrays.copyOf(chunk, position));
+                chunk = null;
+                position = 0;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(byte[] chunk) throws IOException;
+    }
 }
@@ -45,6 +45,9 @@ import static com.appsmith.server.constants.ce.FieldNameCE.DEFAULT;
 @Slf4j
 @RequiredArgsConstructor
 public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHelperCE {
+    // Flags of a user are refreshed after two hours anyway, this only drops the entries of users who stopped visiting
+    private static final long USER_FLAGS_CACHE_TTL_SECONDS = 24 * 60 * 60;
+
     private final TenantRepository tenantRepository;
     private final ConfigService configService;
     private final CloudServicesConfig cloudServicesConfig;
@@ -52,7 +55,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
     private final UserIdentifierService userIdentifierService;
     private final ReleaseNotesService releaseNotesService;
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", ttl = USER_FLAGS_CACHE_TTL_SECONDS, compress = true)
     @Override
     public Mono<CachedFlags> fetchUserCachedFlags(String userIdentifier, User user) {
         return this.forceAllRemoteFeatureFlagsForUser(userIdentifier, user).flatMap(flags -> {
@@ -68,7 +71,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         });
     }
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", ttl = USER_FLAGS_CACHE_TTL_SECONDS, compress = true)
     @Override
     public Mono<CachedFlags> updateUserCachedFlags(String userIdentifier, CachedFlags cachedFlags) {
         return Mono.just(cachedFlags);
@@ -163,11 +166,12 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
     }
 
     /**
-     * To fetch the tenant new features via cache
+     * To fetch the tenant new features via cache. The entry never expires since the cached features are the fallback
+     * when cloud services can't be reached.
      * @param tenantId Id of the tenant
      * @return Mono of CachedFeatures
      */
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", compress = true)
     @Override
     public Mono<CachedFeatures> fetchCachedTenantFeatures(String tenantId) {
         return this.forceAllRemoteFeaturesForTenant(tenantId).flatMap(flags -> {
@@ -184,7 +188,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         });
     }
 
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", compress = true)
     @Override
     public Mono<CachedFeatures> updateCachedTenantFeatures(String tenantId, CachedFeatures cachedFeatures) {
         Map<String, Boolean> featuresMap = new HashMap<>();
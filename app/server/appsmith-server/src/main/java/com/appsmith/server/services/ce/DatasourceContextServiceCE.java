@@ -30,5 +30,12 @@ public interface DatasourceContextServiceCE {
 
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
+    /**
+     * Destroys datasource contexts that have been idle for too long, and the least recently used ones when more
+     * contexts than allowed are held in memory.
+     * @return Mono that completes once the evicted contexts have been destroyed
+     */
+    Mono<Void> evictDatasourceContexts();
+
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
 }
@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -20,23 +21,31 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -44,6 +53,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final DatasourceContextConfig datasourceContextConfig;
+    private final Counter idleEvictionCounter;
+    private final Counter capacityEvictionCounter;
 
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
@@ -55,32 +67,43 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.datasourceContextConfig = datasourceContextConfig;
+
+        Gauge.builder("appsmith.datasource.contexts.live", datasourceContextMap, Map::size)
+                .description("Number of datasource contexts held in memory")
+                .register(meterRegistry);
+        this.idleEvictionCounter = Counter.builder("appsmith.datasource.contexts.evicted")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.capacityEvictionCounter = Counter.builder("appsmith.datasource.contexts.evicted")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
+     * Returns a cached publisher that produces the datasource context for the given identifier. All concurrent callers
+     * for the same identifier share one publisher, which is registered atomically with computeIfAbsent. Earlier
+     * multiple threads could subscribe to a publisher that created connection to a datasource - which resulted in a
+     * data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * The publisher caches its result, so even if multiple threads subscribe to it they get the pre-computed value
+     * instead of creating a new connection for each subscription. No lock is taken, so callers never block a thread
+     * while another caller creates the connection.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -89,89 +112,121 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
 
-        return Mono.fromCallable(() -> {
-                    synchronized (monitor) {
-                        /* Destroy any connection that is stale or in error state to free up resource */
-                        final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-                        final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-                        if (isStale || isInErrorState) {
-                            final Object connection = datasourceContextMap
-                                    .get(datasourceContextIdentifier)
-                                    .getConnection();
-                            if (connection != null) {
-                                try {
-                                    // Basically remove entry from both cache maps
-                                    pluginExecutor.datasourceDestroy(connection);
-                                } catch (Exception e) {
-                                    log.info(
-                                            Thread.currentThread().getName()
-                                                    + ": Error destroying stale datasource connection",
-                                            e);
-                                }
-                            }
-                            datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                            datasourceContextMap.remove(datasourceContextIdentifier);
-                        }
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            return Mono.defer(() -> createDatasourceContextMono(
+                    datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier, false));
+        }
 
-                        /*
-                         * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-                         * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-                         * value would directly be returned to further evaluations / subscriptions.
-                         */
-                        if (datasourceContextIdentifier.getDatasourceId() != null
-                                && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                            log.debug(
-                                    Thread.currentThread().getName()
-                                            + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
-                                    datasourceContextIdentifier.getDatasourceId(),
-                                    datasourceContextIdentifier.getEnvironmentId());
-                            return datasourceContextMonoMap.get(datasourceContextIdentifier);
-                        }
+        return destroyStaleDatasourceContext(datasourceStorage, pluginExecutor, datasourceContextIdentifier)
+                .then(Mono.defer(() -> datasourceContextMonoMap.computeIfAbsent(
+                        datasourceContextIdentifier,
+                        identifier -> createDatasourceContextMono(
+                                datasourceStorage, plugin, pluginExecutor, identifier, true))));
+    }
 
-                        /* Create a fresh datasource context */
-                        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                            the new connection in the context map. */
-                            datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-                        }
+    /**
+     * Destroys the cached connection if it is stale or in error state to free up resources. Concurrent callers may
+     * all find the same stale context, only the one that manages to remove its publisher from the map destroys it.
+     *
+     * @return Mono that completes once the stale connection, if any, has been destroyed
+     */
+    private Mono<Void> destroyStaleDatasourceContext(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier) {
+        return Mono.defer(() -> {
+            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
+            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
+            if (!isStale && !isInErrorState) {
+                return Mono.empty();
+            }
+
+            final Mono<DatasourceContext<Object>> staleContextMono =
+                    datasourceContextMonoMap.get(datasourceContextIdentifier);
+            final DatasourceContext<?> staleContext = datasourceContextMap.get(datasourceContextIdentifier);
+            if (staleContextMono == null
+                    || !datasourceContextMonoMap.remove(datasourceContextIdentifier, staleContextMono)) {
+                // Another caller is already replacing this context
+                return Mono.empty();
+            }
+
+            // Only destroy the context if it is still the one in the map, i.e. it has not been replaced by a new one
+            // or removed, and destroyed, by another caller in the meantime
+            if (staleContext == null || !datasourceContextMap.remove(datasourceContextIdentifier, staleContext)) {
+                return Mono.empty();
+            }
 
-                        Mono<Object> connectionMonoCache = pluginExecutor
-                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                                .cache();
-
-                        Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                                .flatMap(connection ->
-                                        updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                                .map(connection -> {
-                                    /* When a connection object exists and makes sense for the plugin, we put it in the
-                                    context. Example, DB plugins. */
-                                    datasourceContext.setConnection(connection);
-                                    return datasourceContext;
-                                })
-                                .defaultIfEmpty(
-                                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                                        and we just return the context object as is. */
-                                        datasourceContext)
-                                .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+            final Object connection = staleContext.getConnection();
+            if (connection == null) {
+                return Mono.empty();
+            }
+            return Mono.fromRunnable(() -> {
+                        try {
+                            pluginExecutor.datasourceDestroy(connection);
+                        } catch (Exception e) {
+                            log.info(
+                                    Thread.currentThread().getName() + ": Error destroying stale datasource connection",
+                                    e);
                         }
-                        log.debug(
-                                Thread.currentThread().getName()
-                                        + ": Cached new datasource context for datasource id {}, environment id {}",
-                                datasourceContextIdentifier.getDatasourceId(),
-                                datasourceContextIdentifier.getEnvironmentId());
-                        return datasourceContextMonoCache;
-                    }
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then();
+        });
+    }
+
+    /**
+     * Creates the cached publisher for a fresh datasource context. When the context is cached, this is only called
+     * from within computeIfAbsent, so it must not block.
+     */
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            boolean isCached) {
+
+        /* Create a fresh datasource context */
+        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setPluginId(plugin.getId());
+
+        Mono<Object> connectionMonoCache = pluginExecutor
+                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                .cache();
+
+        Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
                 })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext)
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+
+        if (isCached) {
+            /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
+            the new connection in the context map. This is done only once creating the connection publisher has
+            succeeded, so that a plugin failing right away doesn't leave a context without a publisher behind. */
+            datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+            if (isOverCapacity(plugin.getId())) {
+                // Trim in the background, least recently used contexts that are not in use go first
+                evictDatasourceContexts()
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .subscribe();
+            }
+            log.debug(
+                    Thread.currentThread().getName()
+                            + ": Cached new datasource context for datasource id {}, environment id {}",
+                    datasourceContextIdentifier.getDatasourceId(),
+                    datasourceContextIdentifier.getEnvironmentId());
+        }
+        return datasourceContextMonoCache;
     }
 
     /**
@@ -212,49 +267,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Plugin plugin = tuple2.getT1();
                     PluginExecutor<Object> pluginExecutor = tuple2.getT2();
 
-                    return getDatasourceContextMono(
-                            datasourceStorage, datasourceContextIdentifier, plugin, pluginExecutor);
-                });
-    }
-
-    private Mono<DatasourceContext<Object>> getDatasourceContextMono(
-            DatasourceStorage datasourceStorage,
-            DatasourceContextIdentifier datasourceContextIdentifier,
-            Plugin plugin,
-            PluginExecutor<Object> pluginExecutor) {
-
-        return Mono.fromCallable(() -> {
-
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                log.debug(
-                                        Thread.currentThread().getName()
-                                                + ": Creating monitor for datasource id {}, environment id {}",
-                                        datasourceContextIdentifier.getDatasourceId(),
-                                        datasourceContextIdentifier.getEnvironmentId());
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
                     return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
-                })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
+                });
     }
 
     public boolean getIsStale(
@@ -308,7 +323,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+                datasourceContext.touch();
+                return Mono.just(datasourceContext);
             }
         }
 
@@ -360,13 +377,137 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    /**
+     * Checked on every new context, against the total limit and the limit of the plugin the context was created for.
+     */
+    private boolean isOverCapacity(String pluginId) {
+        if (datasourceContextMap.size() > datasourceContextConfig.getMaxSize()) {
+            return true;
+        }
+
+        int maxPerPlugin = datasourceContextConfig.getMaxPerPlugin();
+        return maxPerPlugin > 0
+                && pluginId != null
+                && datasourceContextMap.values().stream()
+                                .filter(datasourceContext -> pluginId.equals(datasourceContext.getPluginId()))
+                                .count()
+                        > maxPerPlugin;
+    }
+
+    /**
+     * Destroys the datasource contexts that have been idle for longer than the configured idle timeout, then the least
+     * recently used contexts until both the total and the per-plugin limits are respected. Contexts with executions
+     * in flight are never destroyed, they still count towards the limits though.
+     *
+     * @return Mono that completes once the selected contexts have been destroyed
+     */
+    @Override
+    public Mono<Void> evictDatasourceContexts() {
+        Instant idleCutoff = Instant.now().minus(datasourceContextConfig.getIdleTimeout());
+        Map<DatasourceContextIdentifier, DatasourceContext<?>> idle = new LinkedHashMap<>();
+        List<Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>>> active = new ArrayList<>();
+        datasourceContextMap.entrySet().forEach(entry -> {
+            DatasourceContext<?> datasourceContext = entry.getValue();
+            if (!datasourceContext.isInUse() && datasourceContext.getLastAccessTime().isBefore(idleCutoff)) {
+                idle.put(entry.getKey(), datasourceContext);
+            } else {
+                active.add(entry);
+            }
+        });
+
+        // Least recently used first
+        active.sort(Comparator.comparing(entry -> entry.getValue().getLastAccessTime()));
+        Map<DatasourceContextIdentifier, DatasourceContext<?>> excess = new LinkedHashMap<>();
+
+        int maxPerPlugin = datasourceContextConfig.getMaxPerPlugin();
+        if (maxPerPlugin > 0) {
+            active.stream()
+                    .filter(entry -> entry.getValue().getPluginId() != null)
+                    .collect(Collectors.groupingBy(entry -> entry.getValue().getPluginId()))
+                    .values()
+                    .forEach(pluginEntries -> pluginEntries.stream()
+                            .filter(entry -> !entry.getValue().isInUse())
+                            .limit(Math.max(0, pluginEntries.size() - maxPerPlugin))
+                            .forEach(entry -> excess.put(entry.getKey(), entry.getValue())));
+        }
+
+        int remaining = active.size() - excess.size();
+        for (Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>> entry : active) {
+            if (remaining <= datasourceContextConfig.getMaxSize()) {
+                break;
+            }
+            if (!entry.getValue().isInUse() && excess.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                remaining--;
+            }
+        }
+
+        if (!idle.isEmpty() || !excess.isEmpty()) {
+            log.debug("Evicting {} idle and {} excess datasource contexts", idle.size(), excess.size());
+        }
+
+        return Flux.concat(
+                        Flux.fromIterable(idle.entrySet())
+                                .flatMap(entry -> evictDatasourceContext(entry.getKey(), entry.getValue())
+                                        .doOnSuccess(evicted -> idleEvictionCounter.increment())),
+                        Flux.fromIterable(excess.entrySet())
+                                .flatMap(entry -> evictDatasourceContext(entry.getKey(), entry.getValue())
+                                        .doOnSuccess(evicted -> capacityEvictionCounter.increment())))
+                .then();
+    }
+
+    /**
+     * Removes the context from the context maps and destroys its connection, unless the context has been replaced in
+     * the meantime or an execution started using it since it was selected for eviction.
+     *
+     * @param datasourceContextIdentifier key of the context to evict
+     * @param datasourceContext           the context selected for eviction
+     * @return Mono that completes once the connection has been destroyed
+     */
+    private Mono<Void> evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+        // Read before the context is removed, while the publisher in the map is still the one of this context
+        Mono<DatasourceContext<Object>> datasourceContextMono =
+                datasourceContextMonoMap.get(datasourceContextIdentifier);
+        if (datasourceContext.isInUse()
+                || !datasourceContextMap.remove(datasourceContextIdentifier, datasourceContext)) {
+            return Mono.empty();
+        }
+        if (datasourceContextMono != null) {
+            // Leave a publisher created for a new context in the meantime in place
+            datasourceContextMonoMap.remove(datasourceContextIdentifier, datasourceContextMono);
+        }
+        if (datasourceContext.getConnection() == null || datasourceContext.getPluginId() == null) {
+            return Mono.empty();
+        }
+
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginService.findById(datasourceContext.getPluginId()))
+                .doOnNext(pluginExecutor -> {
+                    log.debug(
+                            "Destroying datasource context for datasource id {}, environment id {}",
+                            datasourceContextIdentifier.getDatasourceId(),
+                            datasourceContextIdentifier.getEnvironmentId());
+                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
+                })
+                .onErrorResume(error -> {
+                    log.info("Error destroying evicted datasource connection", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
     @Override
     public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
 
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
                 .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasourceContext -> {
+                    // Keep the context from being evicted while the task uses its connection
+                    datasourceContext.executionStarted();
+                    return Mono.defer(() -> task.apply(datasourceContext))
+                            .doFinally(signal -> datasourceContext.executionFinished());
+                });
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -448,7 +589,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
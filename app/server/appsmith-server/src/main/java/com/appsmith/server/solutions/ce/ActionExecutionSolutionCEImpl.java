@@ -56,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
@@ -64,6 +66,8 @@ import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -78,6 +82,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -183,6 +188,20 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
      */
     protected Mono<ActionExecutionResult> populateAndExecuteAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return populateExecuteActionDTOAndEnvironment(executeActionDTO, executeActionMetaDTO)
+                .flatMap(populatedExecuteActionDTO -> executeAction(populatedExecuteActionDTO, executeActionMetaDTO));
+    }
+
+    /**
+     * Populates the executeActionDTO with the action details and sets the true environmentId for the execution on the
+     * executeActionMetaDTO
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return the populated executeActionDTO
+     */
+    protected Mono<ExecuteActionDTO> populateExecuteActionDTOAndEnvironment(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
         AclPermission executePermission = getPermission(executeActionMetaDTO, actionPermission.getExecutePermission());
         Mono<NewAction> newActionMono = newActionService
                 .findByBranchNameAndDefaultActionId(
@@ -201,11 +220,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     return getTrueEnvironmentId(newAction, populatedExecuteActionDTO, executeActionMetaDTO);
                 });
 
-        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).flatMap(pair -> {
+        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).map(pair -> {
             ExecuteActionDTO populatedExecuteActionDTO = pair.getT1();
             String environmentId = pair.getT2();
             executeActionMetaDTO.setEnvironmentId(environmentId);
-            return executeAction(populatedExecuteActionDTO, executeActionMetaDTO);
+            return populatedExecuteActionDTO;
         });
     }
 
@@ -339,6 +358,156 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Executes the action and writes its result to the response as a JSON array, one row at a time, without collecting
+     * the whole result in memory. The first element of the array holds the column names and every element after that
+     * holds the values of one row in the same order. Only plugins that support streaming can be executed this way.
+     * <p>
+     * An execution that fails before the column names are written fails the request as usual. Once the response has
+     * been started its status can not change anymore, so a failure after that ends the array with an object element,
+     * instead of a row, holding the error the same way as the result of a failed non-streamed execution.
+     *
+     * @param partFlux
+     * @param branchName
+     * @param environmentId
+     * @param httpHeaders
+     * @param bufferFactory used to allocate the buffers written to the response
+     * @return Flux of the buffers making up the JSON array
+     */
+    @Override
+    public Flux<DataBuffer> executeActionStream(
+            Flux<Part> partFlux,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders,
+            DataBufferFactory bufferFactory) {
+        ExecuteActionMetaDTO executeActionMetaDTO = ExecuteActionMetaDTO.builder()
+                .headers(httpHeaders)
+                .operateWithoutPermission(FALSE)
+                .branchName(branchName)
+                .environmentId(environmentId)
+                .build();
+
+        Flux<List<Object>> rowsFlux = createExecuteActionDTO(partFlux)
+                .flatMap(executeActionDTO ->
+                        populateExecuteActionDTOAndEnvironment(executeActionDTO, executeActionMetaDTO))
+                .flatMapMany(executeActionDTO -> executeActionRows(executeActionDTO, executeActionMetaDTO));
+
+        return writeRowsAsJsonArray(rowsFlux, bufferFactory);
+    }
+
+    protected Flux<List<Object>> executeActionRows(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        Mono<ActionDTO> actionDTOMono = getValidActionForExecution(executeActionDTO, executeActionMetaDTO)
+                .cache();
+        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
+        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+
+        return Mono.zip(actionDTOMono, datasourceStorageMono, pluginExecutorMono, pluginMono)
+                .flatMapMany(tuple -> {
+                    final ActionDTO actionDTO = tuple.getT1();
+                    final DatasourceStorage datasourceStorage = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+
+                    if (!pluginExecutor.isStreamingSupported()) {
+                        return Flux.error(new AppsmithException(AppsmithError.UNSUPPORTED_OPERATION));
+                    }
+
+                    log.debug(
+                            "[{}]Streaming execute Action called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            actionDTO.getPageId(),
+                            actionDTO.getId(),
+                            actionDTO.getName());
+
+                    // The timeout applies to the wait for each row, so that a large result is not cut short as long
+                    // as rows keep coming
+                    Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+
+                    return setAutoGeneratedHeaders(plugin, actionDTO, executeActionMetaDTO.getHeaders())
+                            .flatMapMany(actionDTO1 -> verifyDatasourceAndStreamRows(
+                                    executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor))
+                            .timeout(Duration.ofMillis(timeoutDuration))
+                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration));
+                });
+    }
+
+    protected Flux<List<Object>> verifyDatasourceAndStreamRows(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor pluginExecutor) {
+
+        Flux<List<Object>> rowsFlux = authenticationValidator
+                .validateAuthentication(datasourceStorage)
+                .zipWhen(validatedDatasource ->
+                        datasourceContextService.getDatasourceContext(validatedDatasource, plugin))
+                .flatMapMany(tuple2 -> {
+                    DatasourceStorage datasourceStorage1 = tuple2.getT1();
+                    DatasourceContext<?> resourceContext = tuple2.getT2();
+                    // Keep the context from being evicted while rows are streamed from its connection
+                    resourceContext.executionStarted();
+                    return Flux.defer(() -> ((PluginExecutor<Object>) pluginExecutor)
+                                    .executeParameterizedStreaming(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasourceStorage1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration()))
+                            .doFinally(signal -> resourceContext.executionFinished());
+                });
+
+        // Plugins only report a stale connection while opening the stream, so no row has been emitted yet
+        return rowsFlux.onErrorResume(StaleConnectionException.class, error -> {
+            log.info("Looks like the connection is stale. Retrying with a fresh context.");
+            return datasourceContextService
+                    .deleteDatasourceContext(datasourceStorage)
+                    .thenMany(rowsFlux);
+        });
+    }
+
+    private Flux<DataBuffer> writeRowsAsJsonArray(Flux<List<Object>> rowsFlux, DataBufferFactory bufferFactory) {
+        final AtomicBoolean isFirstRow = new AtomicBoolean(true);
+
+        return rowsFlux.handle((List<Object> row, SynchronousSink<DataBuffer> sink) -> {
+                    byte[] rowBytes;
+                    try {
+                        rowBytes = objectMapper.writeValueAsBytes(row);
+                    } catch (JsonProcessingException e) {
+                        sink.error(new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage()));
+                        return;
+                    }
+                    byte separator = (byte) (isFirstRow.getAndSet(false) ? '[' : ',');
+                    sink.next(bufferFactory
+                            .allocateBuffer(rowBytes.length + 1)
+                            .write(separator)
+                            .write(rowBytes));
+                })
+                .onErrorResume(error -> {
+                    if (isFirstRow.get()) {
+                        // Nothing has been written yet, the request can still fail with the right status
+                        return Mono.error(error);
+                    }
+                    log.error("Streamed action execution failed after the response was started", error);
+                    return Mono.fromCallable(() -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setIsExecutionSuccess(false);
+                        result.setErrorInfo(error);
+                        byte[] errorBytes = objectMapper.writeValueAsBytes(result);
+                        return bufferFactory
+                                .allocateBuffer(errorBytes.length + 1)
+                                .write((byte) ',')
+                                .write(errorBytes);
+                    });
+                })
+                .concatWith(Mono.fromSupplier(() ->
+                        bufferFactory.wrap((isFirstRow.get() ? "[]" : "]").getBytes(StandardCharsets.UTF_8))));
+    }
+
     /**
      * Creates the ExecuteActionDTO from Flux of ByteBuffers
      *
@@ -715,13 +884,16 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     // Now that we have the context (connection details), execute the action.
 
                     Instant requestedAt = Instant.now();
-                    return ((PluginExecutor<Object>) pluginExecutor)
-                            .executeParameterizedWithMetrics(
-                                    resourceContext.getConnection(),
-                                    executeActionDTO,
-                                    datasourceStorage1.getDatasourceConfiguration(),
-                                    actionDTO.getActionConfiguration(),
-                                    observationRegistry)
+                    // Keep the context from being evicted while the action uses its connection
+                    resourceContext.executionStarted();
+                    return Mono.defer(() -> ((PluginExecutor<Object>) pluginExecutor)
+                                    .executeParameterizedWithMetrics(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasourceStorage1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration(),
+                                            observationRegistry))
+                            .doFinally(signal -> resourceContext.executionFinished())
                             .map(actionExecutionResult -> {
                                 ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
                                 if (actionExecutionRequest == null) {
@@ -822,7 +994,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                             .onErrorResume(executionExceptionHandler(actionDTO))
                             .elapsed()
                             // Now send the analytics event for this execution
-                            .flatMap(tuple1 -> {
+                            .flatMap(tuple1 -> Mono.deferContextual(context -> {
                                 Long timeElapsed = tuple1.getT1();
                                 ActionExecutionResult result = tuple1.getT2();
 
@@ -833,10 +1005,31 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                         actionDTO.getId(),
                                         timeElapsed);
 
-                                return sendExecuteAnalyticsEvent(
-                                                actionDTO, datasourceStorage, executeActionDTO, result, timeElapsed)
-                                        .thenReturn(result);
-                            });
+                                // The event needs a few more lookups from the DB, so it is sent in the background
+                                // rather than making the response wait for it. The result is still changed once
+                                // returned, e.g. its request is removed in view mode, so the event gets a copy.
+                                if (isSendExecuteAnalyticsEvent()) {
+                                    final ActionExecutionResult analyticsResult = copyForAnalytics(result);
+                                    Mono.defer(() -> sendExecuteAnalyticsEvent(
+                                                    actionDTO,
+                                                    datasourceStorage,
+                                                    executeActionDTO,
+                                                    analyticsResult,
+                                                    timeElapsed))
+                                            .onErrorResume(error -> {
+                                                log.warn(
+                                                        "Unable to send execution analytics event for action {}",
+                                                        actionDTO.getId(),
+                                                        error);
+                                                return Mono.empty();
+                                            })
+                                            .contextWrite(context)
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .subscribe();
+                                }
+
+                                return Mono.just(result);
+                            }));
                 });
     }
 
@@ -930,6 +1123,38 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         return analyticsService.isActive();
     }
 
+    /**
+     * Copies the fields of the result read by the execution analytics event, including its request.
+     */
+    private static ActionExecutionResult copyForAnalytics(ActionExecutionResult result) {
+        ActionExecutionResult copy = new ActionExecutionResult();
+        copy.setStatusCode(result.getStatusCode());
+        copy.setTitle(result.getTitle());
+        copy.setErrorType(result.getErrorType());
+        copy.setHeaders(result.getHeaders());
+        copy.setBody(result.getBody());
+        copy.setReadableError(result.getReadableError());
+        copy.setIsExecutionSuccess(result.getIsExecutionSuccess());
+        copy.setMessages(result.getMessages() == null ? null : new HashSet<>(result.getMessages()));
+        copy.setPluginErrorDetails(result.getPluginErrorDetails());
+
+        ActionExecutionRequest request = result.getRequest();
+        if (request != null) {
+            copy.setRequest(new ActionExecutionRequest(
+                    request.getActionId(),
+                    request.getRequestedAt(),
+                    request.getQuery(),
+                    request.getBody(),
+                    request.getHeaders(),
+                    request.getHttpMethod(),
+                    request.getUrl(),
+                    request.getProperties(),
+                    request.getExecutionParameters(),
+                    request.getRequestParams()));
+        }
+        return copy;
+    }
+
     private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
             ActionDTO actionDTO,
             DatasourceStorage datasourceStorage,
@@ -25,12 +25,19 @@ import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.appsmith.server.helpers.DatasourceAnalyticsUtils.getAnalyticsPropertiesForTestEventStatus;
 import static org.springframework.util.StringUtils.hasText;
@@ -41,6 +48,26 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
 
     public static final int GET_STRUCTURE_TIMEOUT_SECONDS = 15;
 
+    // A fetch keeps running after the request that started it times out, so that the structure is stored for the next
+    // request. It is only given up on after this long.
+    public static final int BACKGROUND_GET_STRUCTURE_TIMEOUT_SECONDS = 120;
+
+    // Stored structures older than this are returned as is, and refreshed in the background
+    public static final Duration STRUCTURE_REFRESH_INTERVAL = Duration.ofMinutes(10);
+
+    // A stored structure whose last fetch failed is not refreshed in the background again before this long
+    public static final Duration FAILED_STRUCTURE_REFRESH_BACKOFF = Duration.ofMinutes(5);
+
+    // Structure fetches in progress, keyed by datasource, environment and configuration, so that concurrent requests
+    // share one fetch
+    private final Map<String, Mono<DatasourceStructure>> structureFetchesInProgress = new ConcurrentHashMap<>();
+
+    // Keys of the structure fetches that failed recently, dropped once the backoff is over
+    private final Cache<String, Instant> failedStructureFetches = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(FAILED_STRUCTURE_REFRESH_BACKOFF)
+            .build();
+
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginExecutorHelper pluginExecutorHelper;
@@ -115,7 +142,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                                             datasourceStorage.getDatasourceConfiguration(),
                                             datasourceStorage.getIsMock()));
                 })
-                .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
+                .timeout(Duration.ofSeconds(BACKGROUND_GET_STRUCTURE_TIMEOUT_SECONDS))
                 .onErrorMap(TimeoutException.class, error -> new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR,
                                 "Appsmith server timed out when fetching structure. Please reach out to appsmith "
@@ -166,19 +193,106 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                                                     .thenReturn(structure));
                 });
 
+        // The request waits on the fetch for a limited time, while the fetch itself runs to completion in the
+        // background and stores the structure for the requests that follow.
+        Mono<DatasourceStructure> awaitNewStructureMono = Mono.deferContextual(context -> fetchStructureInBackground(
+                        datasourceStorage, ignoreCache, fetchAndStoreNewStructureMono.contextWrite(context)))
+                .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
+                .onErrorMap(TimeoutException.class, error -> new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR,
+                                "Appsmith server is still fetching the structure of this datasource. Please try "
+                                        + "again in a while.")
+                        .hideStackTraceInLogs());
+
         // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
         return configurationStructureMono
                 .flatMap(configurationStructure -> {
                     if (!ignoreCache && configurationStructure.getStructure() != null) {
 
-                        // Return the cached structure if available.
+                        // Return the cached structure if available, refreshing it in the background if it is stale.
+                        if (isStale(configurationStructure) && !hasRecentlyFailedToFetch(datasourceStorage)) {
+                            return Mono.deferContextual(context -> {
+                                fetchStructureInBackground(
+                                        datasourceStorage, false, fetchAndStoreNewStructureMono.contextWrite(context));
+                                return Mono.just(configurationStructure.getStructure());
+                            });
+                        }
                         return Mono.just(configurationStructure.getStructure());
                     } else return Mono.empty();
                 })
-                .switchIfEmpty(fetchAndStoreNewStructureMono)
+                .switchIfEmpty(awaitNewStructureMono)
                 .defaultIfEmpty(new DatasourceStructure());
     }
 
+    private boolean isStale(DatasourceStorageStructure configurationStructure) {
+        Instant updatedAt = configurationStructure.getUpdatedAt();
+        return updatedAt == null || updatedAt.plus(STRUCTURE_REFRESH_INTERVAL).isBefore(Instant.now());
+    }
+
+    /**
+     * A structure that failed to be fetched is not refreshed in the background again until the backoff is over, so
+     * that a datasource that can't be reached isn't queried on every request for its stale structure.
+     */
+    private boolean hasRecentlyFailedToFetch(DatasourceStorage datasourceStorage) {
+        return failedStructureFetches.getIfPresent(getStructureFetchKey(datasourceStorage)) != null;
+    }
+
+    /**
+     * Starts fetching the structure, unless a fetch for the same datasource, environment and configuration is already
+     * in progress, and returns the shared result. The fetch is subscribed to here, so it completes even if every
+     * caller stops waiting.
+     * <p>
+     * A fetch started before the configuration of the datasource was updated is never shared with callers that see
+     * the updated configuration. A caller that asks to ignore the cache never joins a fetch in progress either, since
+     * that fetch may have started before whatever the caller wants to see; callers that come after join its fetch
+     * instead. Callers that join a fetch get the structure read with the context of the caller that started it, they
+     * have all been allowed to execute on the same datasource and configuration.
+     */
+    private Mono<DatasourceStructure> fetchStructureInBackground(
+            DatasourceStorage datasourceStorage,
+            boolean ignoreCache,
+            Mono<DatasourceStructure> fetchAndStoreNewStructureMono) {
+        if (!hasText(datasourceStorage.getDatasourceId())) {
+            // Structures of unsaved datasources are not stored, so there is nothing to gain from fetching in background
+            return fetchAndStoreNewStructureMono;
+        }
+
+        final String key = getStructureFetchKey(datasourceStorage);
+        final AtomicReference<Mono<DatasourceStructure>> fetchMonoRef = new AtomicReference<>();
+        // Only this fetch is removed once it terminates, a refresh may have replaced it in the meantime
+        final Mono<DatasourceStructure> fetchMono = fetchAndStoreNewStructureMono
+                .doFinally(signalType -> structureFetchesInProgress.remove(key, fetchMonoRef.get()))
+                .cache();
+        fetchMonoRef.set(fetchMono);
+
+        if (ignoreCache) {
+            structureFetchesInProgress.put(key, fetchMono);
+        } else {
+            final Mono<DatasourceStructure> fetchInProgressMono =
+                    structureFetchesInProgress.putIfAbsent(key, fetchMono);
+            if (fetchInProgressMono != null) {
+                return fetchInProgressMono;
+            }
+        }
+
+        fetchMono.subscribe(
+                structure -> {
+                    failedStructureFetches.invalidate(key);
+                    log.debug("Fetched structure for datasource {}", datasourceStorage.getDatasourceId());
+                },
+                error -> {
+                    failedStructureFetches.put(key, Instant.now());
+                    log.debug(
+                            "Failed to fetch structure for datasource {}", datasourceStorage.getDatasourceId(), error);
+                });
+        return fetchMono;
+    }
+
+    private static String getStructureFetchKey(DatasourceStorage datasourceStorage) {
+        return datasourceStorage.getDatasourceId() + "_" + datasourceStorage.getEnvironmentId() + "_"
+                + Objects.hashCode(datasourceStorage.getDatasourceConfiguration());
+    }
+
     @Override
     public Mono<ActionExecutionResult> getSchemaPreviewData(
             String datasourceId, String environmentId, Template queryTemplate) {
@@ -0,0 +1,85 @@
+package com.appsmith.server.aspect;
+
+import com.appsmith.server.aspect.component.TestComponentImpl;
+import com.appsmith.server.aspect.component.ce.TestComponentCEImpl;
+import com.appsmith.server.aspect.component.ce_compatible.TestComponentCECompatibleImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling the fallback of a feature flagged method the way {@link FeatureFlaggedMethodInvokerAspect} used to,
+ * i.e. looking up the bean and the method on every call, with calling the handle held by
+ * {@link FeatureFlaggedMethodFallbackRegistry}.
+ * <p>
+ * Run with the main method, from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureFlaggedMethodDispatchBenchmark {
+
+    private GenericApplicationContext applicationContext;
+    private FeatureFlaggedMethodFallbackRegistry fallbackRegistry;
+    private Method method;
+    private final Object[] args = {"arg_"};
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("testComponentCEImpl", TestComponentCEImpl.class);
+        applicationContext.registerBean("testComponentCECompatibleImpl", TestComponentCECompatibleImpl.class);
+        applicationContext.refresh();
+
+        fallbackRegistry = new FeatureFlaggedMethodFallbackRegistry(applicationContext);
+        method = TestComponentImpl.class.getMethod("ceEeSyncMethod", String.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object reflectiveDispatch() throws Exception {
+        Class<?> targetSuperClass = TestComponentImpl.class.getSuperclass();
+        Object service = applicationContext
+                .getBeansOfType(targetSuperClass)
+                .get(Introspector.decapitalize(targetSuperClass.getSimpleName()));
+        Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
+        return superMethod.invoke(service, args);
+    }
+
+    @Benchmark
+    public Object methodHandleDispatch() throws Throwable {
+        MethodHandle fallbackMethod = fallbackRegistry.getFallbackMethod(TestComponentImpl.class, method);
+        return (Object) fallbackMethod.invokeExact(args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FeatureFlaggedMethodDispatchBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
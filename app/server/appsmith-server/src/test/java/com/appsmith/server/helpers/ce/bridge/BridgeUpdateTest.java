@@ -0,0 +1,55 @@
+package com.appsmith.server.helpers.ce.bridge;
+
+import com.appsmith.external.models.BaseDomain;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BridgeUpdateTest {
+
+    @Test
+    public void toUpdateDefinition_withoutFieldReferences_returnsSameUpdate() {
+        BridgeUpdate update = Bridge.update().set("name", "value");
+
+        assertThat(update.toUpdateDefinition()).isSameAs(update);
+    }
+
+    @Test
+    public void toUpdateDefinition_withFieldReferences_returnsPipelineUpdate() {
+        BridgeUpdate update = Bridge.update().set("name", "$notAFieldReference");
+        update.setToValueFromField("publishedAction", "unpublishedAction");
+
+        UpdateDefinition updateDefinition = update.toUpdateDefinition();
+
+        assertThat(updateDefinition).isInstanceOf(AggregationUpdate.class);
+        List<Document> pipeline = ((AggregationUpdate) updateDefinition).toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline)
+                .containsExactly(
+                        new Document("$set", new Document("name", new Document("$literal", "$notAFieldReference"))),
+                        new Document("$set", new Document("publishedAction", "$unpublishedAction")));
+    }
+
+    @Test
+    public void toUpdateDefinition_withAuditFields_setsUpdatedAtAndModifiedBy() {
+        BridgeUpdate update = Bridge.update();
+        update.setToValueFromField("publishedPage", "unpublishedPage");
+        update.set(BaseDomain.Fields.modifiedBy, "api_user");
+        update.setToCurrentTime(BaseDomain.Fields.updatedAt);
+
+        UpdateDefinition updateDefinition = update.toUpdateDefinition();
+
+        assertThat(updateDefinition).isInstanceOf(AggregationUpdate.class);
+        List<Document> pipeline = ((AggregationUpdate) updateDefinition).toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline)
+                .containsExactly(
+                        new Document("$set", new Document("modifiedBy", new Document("$literal", "api_user"))),
+                        new Document("$set", new Document("publishedPage", "$unpublishedPage")),
+                        new Document("$set", new Document("updatedAt", "$$NOW")));
+    }
+}
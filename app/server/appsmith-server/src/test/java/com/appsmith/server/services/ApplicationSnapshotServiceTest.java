@@ -24,9 +24,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -276,6 +280,73 @@ public class ApplicationSnapshotServiceTest {
         StepVerifier.create(snapshotFlux).verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void createApplicationSnapshot_WhenCreated_DataIsCompressed() {
+        Application testApplication = new Application();
+        testApplication.setName("Test app for compressed snapshot");
+        Flux<ApplicationSnapshot> snapshotFlux = applicationPageService
+                .createApplication(testApplication, workspace.getId())
+                .flatMapMany(application -> applicationSnapshotService
+                        .createApplicationSnapshot(application.getId(), null)
+                        .thenMany(applicationSnapshotRepository.findByApplicationId(application.getId())));
+
+        StepVerifier.create(snapshotFlux)
+                .assertNext(applicationSnapshot -> {
+                    byte[] data = applicationSnapshot.getData();
+                    assertThat(data[0] & 0xff).isEqualTo(GZIPInputStream.GZIP_MAGIC & 0xff);
+                    assertThat(data[1] & 0xff).isEqualTo(GZIPInputStream.GZIP_MAGIC >> 8);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void restoreSnapshot_WhenSnapshotIsNotCompressed_Restored() {
+        Application testApplication = new Application();
+        testApplication.setName("App with uncompressed snapshot");
+        Mono<Application> restoredApplicationMono = applicationPageService
+                .createApplication(testApplication, workspace.getId())
+                .flatMap(application -> applicationSnapshotService
+                        .createApplicationSnapshot(application.getId(), null)
+                        .then(applicationSnapshotRepository
+                                .findByApplicationId(application.getId())
+                                .single())
+                        .flatMap(compressedSnapshot -> {
+                            // Store the snapshot the way it was stored before compression, as plain json split
+                            // across two chunks
+                            byte[] json;
+                            try (GZIPInputStream inputStream =
+                                    new GZIPInputStream(new ByteArrayInputStream(compressedSnapshot.getData()))) {
+                                json = inputStream.readAllBytes();
+                            } catch (IOException e) {
+                                return Mono.error(e);
+                            }
+
+                            ApplicationSnapshot chunk1 = new ApplicationSnapshot();
+                            chunk1.setApplicationId(application.getId());
+                            chunk1.setChunkOrder(1);
+                            chunk1.setData(Arrays.copyOfRange(json, 0, json.length / 2));
+
+                            ApplicationSnapshot chunk2 = new ApplicationSnapshot();
+                            chunk2.setApplicationId(application.getId());
+                            chunk2.setChunkOrder(2);
+                            chunk2.setData(Arrays.copyOfRange(json, json.length / 2, json.length));
+
+                            return applicationSnapshotRepository
+                                    .deleteAllByApplicationId(application.getId())
+                                    .thenMany(applicationSnapshotRepository.saveAll(List.of(chunk2, chunk1)))
+                                    .then();
+                        })
+                        .then(applicationSnapshotService.restoreSnapshot(application.getId(), null)));
+
+        StepVerifier.create(restoredApplicationMono)
+                .assertNext(application -> {
+                    assertThat(application.getName()).isEqualTo("App with uncompressed snapshot");
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void deleteSnapshot_WhenSnapshotExists_Deleted() {
         String testAppId = "app-" + UUID.randomUUID();
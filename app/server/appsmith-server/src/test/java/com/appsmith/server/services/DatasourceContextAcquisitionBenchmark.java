@@ -0,0 +1,118 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures 64 executors acquiring the context of the same datasource at once. Compares the lock-free
+ * {@link DatasourceContextServiceImpl#getCachedDatasourceContextMono} with the same call serialized on a single
+ * monitor, the way the context used to be acquired.
+ * <p>
+ * Run with the main method, from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class DatasourceContextAcquisitionBenchmark {
+
+    private final Object monitor = new Object();
+
+    private DatasourceContextServiceImpl datasourceContextService;
+    private DatasourceStorage datasourceStorage;
+    private Plugin plugin;
+    private PluginExecutor<Object> pluginExecutor;
+    private DatasourceContextIdentifier datasourceContextIdentifier;
+
+    @Setup
+    public void setUp() {
+        DatasourceContextConfig datasourceContextConfig = Mockito.mock(DatasourceContextConfig.class);
+        Mockito.when(datasourceContextConfig.getMaxSize()).thenReturn(1000);
+        Mockito.when(datasourceContextConfig.getIdleTimeout()).thenReturn(Duration.ofMinutes(60));
+
+        datasourceContextService = new DatasourceContextServiceImpl(
+                Mockito.mock(DatasourceService.class),
+                Mockito.mock(DatasourceStorageService.class),
+                Mockito.mock(PluginService.class),
+                Mockito.mock(PluginExecutorHelper.class),
+                Mockito.mock(ConfigService.class),
+                Mockito.mock(DatasourcePermission.class),
+                datasourceContextConfig,
+                new SimpleMeterRegistry());
+
+        datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("benchmark_datasource");
+        datasourceStorage.setEnvironmentId("benchmark_environment");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        plugin = new Plugin();
+        plugin.setPackageName("postgres-plugin");
+
+        pluginExecutor = new MockPluginExecutor() {
+            @Override
+            public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+                return Mono.just(new Object());
+            }
+        };
+
+        datasourceContextIdentifier = datasourceContextService.initializeDatasourceContextIdentifier(datasourceStorage);
+    }
+
+    @Benchmark
+    public DatasourceContext<Object> lockFreeAcquisition() {
+        return datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier)
+                .block();
+    }
+
+    @Benchmark
+    public DatasourceContext<Object> monitorAcquisition() {
+        synchronized (monitor) {
+            return datasourceContextService
+                    .getCachedDatasourceContextMono(
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier)
+                    .block();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(DatasourceContextAcquisitionBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
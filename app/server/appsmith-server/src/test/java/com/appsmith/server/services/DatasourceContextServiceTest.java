@@ -19,6 +19,7 @@ import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
@@ -51,8 +52,12 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -112,6 +117,9 @@ public class DatasourceContextServiceTest {
     @SpyBean
     DatasourceContextServiceImpl datasourceContextService;
 
+    @SpyBean
+    DatasourceContextConfig datasourceContextConfig;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -177,10 +185,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -208,7 +215,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -377,14 +384,13 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -392,6 +398,43 @@ public class DatasourceContextServiceTest {
         assertEquals("connection_1", dsContext1.getConnection());
     }
 
+    /**
+     * This test checks that when many executions concurrently ask for the context of one datasource, the connection
+     * is only created once and all of them share it.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCachedDatasourceCreate_withConcurrentRequests_createsConnectionOnce() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin emptyPlugin = new Plugin();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1").delayElement(Duration.ofMillis(100)))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(UUID.randomUUID().toString());
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        List<Object> connections = Flux.range(0, 64)
+                .parallel(64)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> datasourceContextService.getCachedDatasourceContextMono(
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier))
+                .map(DatasourceContext::getConnection)
+                .sequential()
+                .collectList()
+                .block();
+
+        assertEquals(64, connections.size());
+        assertTrue(connections.stream().allMatch("connection_1"::equals));
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(1)).datasourceCreate(any());
+    }
+
     /**
      * This test checks that if `getCachedDatasourceCreate` method is called two times for the same datasource id, then
      * the datasource creation happens again and again for UpdatableConnection types
@@ -461,13 +504,11 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
                         createdDatasourceStorage,
                         emptyPlugin,
                         spyMockPluginExecutor,
-                        monitor,
                         datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
@@ -480,7 +521,6 @@ public class DatasourceContextServiceTest {
                         createdDatasourceStorage,
                         emptyPlugin,
                         spyMockPluginExecutor,
-                        monitor,
                         datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
@@ -516,11 +556,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -533,7 +571,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -558,17 +596,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
@@ -773,4 +809,93 @@ public class DatasourceContextServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyEvictDatasourceContexts_whenContextIsIdle_destroysConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId(UUID.randomUUID().toString());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1")).when(spyMockPluginExecutor).datasourceCreate(any());
+        doReturn(Mono.just(plugin)).when(pluginService).findById(plugin.getId());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(UUID.randomUUID().toString());
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                datasourceContextService.initializeDatasourceContextIdentifier(datasourceStorage);
+
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, plugin, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        datasourceContext.setLastAccessTime(Instant.now().minus(Duration.ofDays(1)));
+        datasourceContextService.evictDatasourceContexts().block();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        Mockito.verify(spyMockPluginExecutor).datasourceDestroy("connection_1");
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyEvictDatasourceContexts_whenOverPluginLimit_keepsContextsInUse() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        doReturn(1).when(datasourceContextConfig).getMaxPerPlugin();
+        Plugin plugin = new Plugin();
+        plugin.setId(UUID.randomUUID().toString());
+        Plugin otherPlugin = new Plugin();
+        otherPlugin.setId(UUID.randomUUID().toString());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"), Mono.just("connection_2"), Mono.just("connection_3"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+        doReturn(Mono.just(plugin)).when(pluginService).findById(plugin.getId());
+        doReturn(Mono.just(otherPlugin)).when(pluginService).findById(otherPlugin.getId());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        List<DatasourceStorage> datasourceStorages = new ArrayList<>();
+        List<DatasourceContextIdentifier> identifiers = new ArrayList<>();
+        List<DatasourceContext<?>> datasourceContexts = new ArrayList<>();
+        for (Plugin contextPlugin : List.of(plugin, plugin, otherPlugin)) {
+            DatasourceStorage datasourceStorage = new DatasourceStorage();
+            datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+            datasourceStorage.setDatasourceId(UUID.randomUUID().toString());
+            datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+            DatasourceContextIdentifier identifier =
+                    datasourceContextService.initializeDatasourceContextIdentifier(datasourceStorage);
+
+            DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                    .getCachedDatasourceContextMono(datasourceStorage, contextPlugin, spyMockPluginExecutor, identifier)
+                    .block();
+            if (datasourceContexts.isEmpty()) {
+                // The least recently used context of the plugin is executing a query
+                datasourceContext.executionStarted();
+            }
+            datasourceStorages.add(datasourceStorage);
+            identifiers.add(identifier);
+            datasourceContexts.add(datasourceContext);
+        }
+
+        datasourceContextService.evictDatasourceContexts().block();
+
+        // Only the context of the plugin that is not in use is destroyed, the other plugin is within its limit
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorages.get(0), identifiers.get(0)));
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorages.get(1), identifiers.get(1)));
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorages.get(2), identifiers.get(2)));
+        Mockito.verify(spyMockPluginExecutor, Mockito.timeout(1000)).datasourceDestroy("connection_2");
+        Mockito.verify(spyMockPluginExecutor, Mockito.never()).datasourceDestroy("connection_1");
+
+        datasourceContexts.get(0).executionFinished();
+    }
 }
@@ -32,6 +32,7 @@ import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -69,9 +70,9 @@ public class ApplicationSnapshotServiceUnitTest {
     public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
         String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
 
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+        // Create a large ApplicationJson object that exceeds the 15 MB size even once compressed
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", generateRandomString(24));
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -96,18 +97,29 @@ public class ApplicationSnapshotServiceUnitTest {
         Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
                 .thenReturn(Mono.just("").then());
 
-        // we're expecting to receive two application snapshots, create a matcher to check the size
-        ArgumentMatcher<List<ApplicationSnapshot>> snapshotListHasTwoSnapshot =
-                snapshotList -> snapshotList.size() == 2;
-
-        Mockito.when(applicationSnapshotRepository.saveAll(argThat(snapshotListHasTwoSnapshot)))
-                .thenReturn(Flux.just(new ApplicationSnapshot(), new ApplicationSnapshot()));
+        // chunks are saved one at a time, keep them in the order they're saved in
+        List<ApplicationSnapshot> savedSnapshots = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(applicationSnapshotRepository.save(any(ApplicationSnapshot.class)))
+                .thenAnswer(invocation -> {
+                    ApplicationSnapshot snapshot = invocation.getArgument(0);
+                    savedSnapshots.add(snapshot);
+                    return Mono.just(snapshot);
+                });
 
         StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(defaultAppId, branchName))
                 .assertNext(aBoolean -> {
                     assertThat(aBoolean).isTrue();
                 })
                 .verifyComplete();
+
+        // we're expecting to receive two application snapshots, in chunk order and all of them within the size limit
+        assertThat(savedSnapshots).hasSize(2);
+        assertThat(savedSnapshots.get(0).getChunkOrder()).isEqualTo(1);
+        assertThat(savedSnapshots.get(1).getChunkOrder()).isEqualTo(2);
+        savedSnapshots.forEach(snapshot -> {
+            assertThat(snapshot.getApplicationId()).isEqualTo(branchedAppId);
+            assertThat(snapshot.getData().length).isLessThanOrEqualTo(15 * 1024 * 1024);
+        });
     }
 
     @Test
@@ -41,6 +41,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 
@@ -269,6 +270,52 @@ public class DatasourceStructureSolutionTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyConcurrentRequestsShareOneStructureFetch() {
+        doReturn(Mono.just(generateDatasourceStructureObject()).delayElement(Duration.ofMillis(500)))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        Mono<List<DatasourceStructure>> datasourceStructuresMono = Mono.zip(
+                        datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId),
+                        datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2()));
+
+        StepVerifier.create(datasourceStructuresMono)
+                .assertNext(datasourceStructures -> datasourceStructures.forEach(datasourceStructure ->
+                        assertThat(datasourceStructure.getTables()).hasSize(2)))
+                .verifyComplete();
+        Mockito.verify(datasourceContextService, Mockito.times(1)).retryOnce(any(), any());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyIgnoreCacheDoesNotJoinStructureFetchInProgress() {
+        // The first fetch is still running when the structure is refreshed, it returns the outdated structure
+        doReturn(
+                        Mono.just(new DatasourceStructure()).delayElement(Duration.ofSeconds(3)),
+                        Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        datasourceStructureSolution
+                .getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId)
+                .subscribe();
+        Mockito.verify(datasourceContextService, Mockito.timeout(5000)).retryOnce(any(), any());
+
+        Mono<DatasourceStructure> datasourceStructureMono =
+                datasourceStructureSolution.getStructure(datasourceId, Boolean.TRUE, defaultEnvironmentId);
+
+        StepVerifier.create(datasourceStructureMono)
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTables()).hasSize(2);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("Table1");
+                })
+                .verifyComplete();
+        Mockito.verify(datasourceContextService, Mockito.times(2)).retryOnce(any(), any());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void verifyDatasourceStorageStructureGettingSaved() {
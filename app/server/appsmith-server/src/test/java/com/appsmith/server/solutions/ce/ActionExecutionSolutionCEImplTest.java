@@ -3,6 +3,8 @@ package com.appsmith.server.solutions.ce;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.ParamProperty;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
@@ -27,6 +29,7 @@ import com.appsmith.server.services.TenantService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +42,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.core.codec.ByteBufferDecoder;
 import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.DecoderHttpMessageReader;
@@ -59,6 +64,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +73,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -376,6 +383,101 @@ class ActionExecutionSolutionCEImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteActionStream_writesColumnsAndRowsAsJsonArray() {
+        String parts =
+                """
+                    --boundary\r
+                    Content-Disposition: form-data; name="executeActionDTO"\r
+                    \r
+                    {"actionId":"63285a3388e48972c7519b18","viewMode":false}\r
+                    --boundary--""";
+
+        MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(parts);
+
+        final Flux<Part> partsFlux = BodyExtractors.toParts().extract(mock, this.context);
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy = spy(actionExecutionSolution);
+
+        NewAction newAction = new NewAction();
+        newAction.setId("63285a3388e48972c7519b18");
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setDatasource(new Datasource());
+        newAction.setUnpublishedAction(actionDTO);
+        doReturn(Mono.just(FieldName.UNUSED_ENVIRONMENT_ID))
+                .when(datasourceService)
+                .getTrueEnvironmentId(
+                        any(), any(), any(), Mockito.eq(environmentPermission.getExecutePermission()), anyBoolean());
+        doReturn(Mono.just(newAction))
+                .when(newActionService)
+                .findByBranchNameAndDefaultActionId(any(), any(), Mockito.anyBoolean(), any());
+        doReturn(Flux.just(List.of("id", "name"), List.of(1, "first"), List.of(2, "second")))
+                .when(executionSolutionSpy)
+                .executeActionRows(any(), any());
+
+        Mono<String> responseMono = DataBufferUtils.join(executionSolutionSpy.executeActionStream(
+                        partsFlux, null, null, null, new DefaultDataBufferFactory()))
+                .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8));
+
+        StepVerifier.create(responseMono)
+                .assertNext(response -> assertEquals("[[\"id\",\"name\"],[1,\"first\"],[2,\"second\"]]", response))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteActionStream_whenRowsFailMidStream_endsArrayWithError() throws Exception {
+        String parts =
+                """
+                    --boundary\r
+                    Content-Disposition: form-data; name="executeActionDTO"\r
+                    \r
+                    {"actionId":"63285a3388e48972c7519b18","viewMode":false}\r
+                    --boundary--""";
+
+        MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(parts);
+
+        final Flux<Part> partsFlux = BodyExtractors.toParts().extract(mock, this.context);
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy = spy(actionExecutionSolution);
+
+        NewAction newAction = new NewAction();
+        newAction.setId("63285a3388e48972c7519b18");
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setDatasource(new Datasource());
+        newAction.setUnpublishedAction(actionDTO);
+        doReturn(Mono.just(FieldName.UNUSED_ENVIRONMENT_ID))
+                .when(datasourceService)
+                .getTrueEnvironmentId(
+                        any(), any(), any(), Mockito.eq(environmentPermission.getExecutePermission()), anyBoolean());
+        doReturn(Mono.just(newAction))
+                .when(newActionService)
+                .findByBranchNameAndDefaultActionId(any(), any(), Mockito.anyBoolean(), any());
+        doReturn(Flux.concat(
+                        Flux.just(List.of("id", "name"), List.of(1, "first")),
+                        Flux.error(new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_ERROR, "Connection reset while reading rows"))))
+                .when(executionSolutionSpy)
+                .executeActionRows(any(), any());
+
+        String response = DataBufferUtils.join(executionSolutionSpy.executeActionStream(
+                        partsFlux, null, null, null, new DefaultDataBufferFactory()))
+                .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8))
+                .block();
+
+        // The response is still a valid JSON array, its last element is the error instead of a row
+        JsonNode elements = objectMapper.readTree(response);
+        assertEquals(3, elements.size());
+        assertEquals("[1,\"first\"]", elements.get(1).toString());
+        JsonNode error = elements.get(2);
+        assertTrue(error.isObject());
+        assertFalse(error.get("isExecutionSuccess").asBoolean());
+        assertTrue(error.get("body").asText().contains("Connection reset while reading rows"));
+    }
+
     @Test
     public void testParsePartsAndGetParamsFlux_withBlobIdentifiers_replacesValueInParam() {
         String partsWithBlobRefs =
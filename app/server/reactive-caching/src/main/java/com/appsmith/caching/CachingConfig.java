@@ -1,8 +1,19 @@
 package com.appsmith.caching;
 
+import com.appsmith.caching.codec.CacheValueCodec;
+import com.appsmith.caching.codec.DeflateCacheValueCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ComponentScan
-public class CachingConfig {}
+public class CachingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(CacheValueCodec.class)
+    public CacheValueCodec cacheValueCodec() {
+        return new DeflateCacheValueCodec();
+    }
+}
@@ -22,4 +22,26 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Time to live of the cached entry in seconds, entries never expire when this is 0.
+     */
+    long ttl() default 0;
+
+    /**
+     * Values whose serialized form is larger than this many bytes are not cached, 0 means no limit.
+     */
+    int maxSerializedBytes() default 0;
+
+    /**
+     * Whether the serialized value should be compressed before it is written to the cache.
+     */
+    boolean compress() default false;
+
+    /**
+     * Seconds after which a cached value is considered stale, 0 disables revalidation.
+     * A stale value is still returned while a single background call of the method refreshes it, so the method must
+     * not depend on the reactor context of the caller.
+     */
+    long refreshAfter() default 0;
 }
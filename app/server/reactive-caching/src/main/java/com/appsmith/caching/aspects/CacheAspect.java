@@ -3,6 +3,8 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CacheEntryOptions;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -20,6 +22,9 @@ import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -34,24 +39,95 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Loads of the original method that are currently running, keyed by cacheName:key
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // Epoch millis after which the value cached for cacheName:key is stale, for caches that use refreshAfter
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> refreshDeadlines =
+            Caffeine.newBuilder().maximumSize(10000).build();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
     }
 
+    /**
+     * This method is used to share a single load of the original method between all concurrent callers that missed
+     * the cache for the same key. The load runs with the reactor context of the caller that started it, and only that
+     * caller gets the instance returned by the original method. Every other caller waits for the load to cache its
+     * result and reads its own copy from the cache, so that callers changing the value they got, e.g. setting the
+     * permissions of the current user on it, don't change each other's value.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key the load is for
+     * @param load      The deferred load of the original method
+     * @return Mono that completes with the result of the shared load
+     */
+    private Mono<Object> loadOnce(String cacheName, String key, Mono<Object> load) {
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> {
+            AtomicReference<Mono<Object>> sharedLoad = new AtomicReference<>();
+            // Remove the entry once the load terminates so that the next miss triggers a fresh load. Only this load
+            // is removed, a load started for the same key after this one was removed must stay shared.
+            sharedLoad.set(load.doFinally(signal -> inFlightLoads.remove(path, sharedLoad.get()))
+                    .cache());
+            Mono<Object> runningLoad = inFlightLoads.putIfAbsent(path, sharedLoad.get());
+            if (runningLoad == null) {
+                return sharedLoad.get();
+            }
+
+            // The value is not in the cache if it was too large to be cached, it is then loaded again
+            return runningLoad.flatMap(loaded -> cacheManager.get(cacheName, key).switchIfEmpty(load));
+        });
+    }
+
+    /**
+     * This method is used to read the cached value and, if it is older than refreshAfter, trigger a single
+     * background load that replaces it. The stale value is returned right away.
+     *
+     * @param cacheName    The name of the cache
+     * @param key          The key to be used for caching
+     * @param refreshAfter Seconds after which a cached value is stale, 0 disables revalidation
+     * @param load         The deferred load of the original method
+     * @return The cached value, empty if there is none
+     */
+    private Mono<Object> getAndRevalidate(String cacheName, String key, long refreshAfter, Mono<Object> load) {
+        Mono<Object> cached = cacheManager.get(cacheName, key);
+        if (refreshAfter <= 0) {
+            return cached;
+        }
+
+        String path = cacheName + ":" + key;
+        return cached.doOnNext(value -> {
+            long now = System.currentTimeMillis();
+            long refreshAt = refreshDeadlines.get(path, stalePath -> now + refreshAfter * 1000);
+            if (refreshAt > now) {
+                return;
+            }
+            // Push the deadline forward so that only one caller triggers the refresh
+            refreshDeadlines.put(path, now + refreshAfter * 1000);
+            loadOnce(cacheName, key, load)
+                    .subscribe(
+                            refreshed -> log.debug("Refreshed stale cache entry for key {}", path),
+                            error -> log.error("Error occurred in refreshing stale cache entry {}", path, error));
+        });
+    }
+
     /**
      * This method is used to call original Mono<T> returning method and return the the result after caching it with CacheManager
      *
      * @param joinPoint The join point of the method call
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param options   The options of the cache entry
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, CacheEntryOptions options) {
         try {
             return ((Mono<?>) joinPoint.proceed())
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName, key, value, options)) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
         } catch (Throwable e) {
             log.error(
@@ -68,14 +144,16 @@ public class CacheAspect {
      * @param joinPoint The join point
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param options   The options of the cache entry
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, CacheEntryOptions options) {
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName, key, value, options)) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
                     .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
         } catch (Throwable e) {
@@ -87,6 +165,12 @@ public class CacheAspect {
         }
     }
 
+    private void markFresh(String path, long refreshAfter) {
+        if (refreshAfter > 0) {
+            refreshDeadlines.put(path, System.currentTimeMillis() + refreshAfter * 1000);
+        }
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -161,22 +245,25 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        CacheEntryOptions options = CacheEntryOptions.from(annotation);
+        String path = cacheName + ":" + key;
+        long refreshAfter = annotation.refreshAfter();
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            // defer the creation of Mono until subscription as it will call original function
+            Mono<Object> load = Mono.defer(() -> callMonoMethodAndCache(joinPoint, cacheName, key, options))
+                    .doOnNext(value -> markFresh(path, refreshAfter));
+            return getAndRevalidate(cacheName, key, refreshAfter, load).switchIfEmpty(loadOnce(cacheName, key, load));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            // defer the creation of Flux until subscription as it will call original function
+            Mono<Object> load = Mono.<Object>defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key, options)
+                            .collectList())
+                    .doOnNext(value -> markFresh(path, refreshAfter));
+            return getAndRevalidate(cacheName, key, refreshAfter, load)
+                    .switchIfEmpty(loadOnce(cacheName, key, load))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -209,6 +296,8 @@ public class CacheAspect {
         }
 
         if (all) { // If all is true, evict all keys from the cache
+            String prefix = cacheName + ":";
+            refreshDeadlines.asMap().keySet().removeIf(path -> path.startsWith(prefix));
             return cacheManager.evictAll(cacheName).then((Mono<?>) joinPoint.proceed());
         }
 
@@ -216,6 +305,7 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        refreshDeadlines.invalidate(cacheName + ":" + key);
         // Evict key from the cache then call the original method
         return cacheManager.evict(cacheName, key).then((Mono<?>) joinPoint.proceed());
     }
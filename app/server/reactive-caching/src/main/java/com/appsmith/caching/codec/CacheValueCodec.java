@@ -0,0 +1,29 @@
+package com.appsmith.caching.codec;
+
+/**
+ * A CacheValueCodec transforms the serialized form of a cached value before it is written to Redis, typically to
+ * compress it. Encoded payloads are tagged with the codec id so that they can be told apart from plain serialized
+ * values when they are read back.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Identifier written in the header of every payload encoded by this codec.
+     * @return The codec id.
+     */
+    byte id();
+
+    /**
+     * Encodes the serialized value.
+     * @param serialized The value as produced by the Redis value serializer.
+     * @return The encoded bytes.
+     */
+    byte[] encode(byte[] serialized);
+
+    /**
+     * Decodes bytes previously produced by {@link #encode(byte[])}.
+     * @param encoded The encoded bytes.
+     * @return The value as produced by the Redis value serializer.
+     */
+    byte[] decode(byte[] encoded);
+}
@@ -0,0 +1,62 @@
+package com.appsmith.caching.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Default CacheValueCodec, compresses values with the JDK Deflater tuned for speed.
+ * Provide another CacheValueCodec bean to use a different compression algorithm.
+ */
+public class DeflateCacheValueCodec implements CacheValueCodec {
+
+    private static final byte ID = 1;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(byte[] serialized) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(serialized);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(serialized.length / 2 + 16);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decode(byte[] encoded) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Truncated compressed cache value");
+                }
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheKeySize;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the largest entries of the caches used on this node, to help size Redis.
+ */
+@Component
+@Endpoint(id = "cachekeys")
+public class CacheKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RedisCacheManagerImpl redisCacheManager;
+
+    public CacheKeysEndpoint(RedisCacheManagerImpl redisCacheManager) {
+        this.redisCacheManager = redisCacheManager;
+    }
+
+    @ReadOperation
+    public Mono<List<CacheKeySize>> largestKeys(@Nullable Integer limit) {
+        return redisCacheManager.getLargestKeys(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
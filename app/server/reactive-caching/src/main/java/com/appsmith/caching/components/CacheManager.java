@@ -1,5 +1,6 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheEntryOptions;
 import reactor.core.publisher.Mono;
 
 public interface CacheManager {
@@ -23,7 +24,19 @@ public interface CacheManager {
      * @param value The value of the item.
      * @return Mono<Boolean> true if put was successful, false otherwise.
      */
-    Mono<Boolean> put(String cacheName, String key, Object value);
+    default Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, CacheEntryOptions.DEFAULT);
+    }
+
+    /**
+     * This will put item into the cache with the given entry options.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param options Expiry, size and compression options for the entry.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    Mono<Boolean> put(String cacheName, String key, Object value, CacheEntryOptions options);
 
     /**
      * This will remove item from the cache.
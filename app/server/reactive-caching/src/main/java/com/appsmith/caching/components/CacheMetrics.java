@@ -0,0 +1,99 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * CacheMetrics registers Micrometer meters for every cacheName used with the CacheManager.
+ * Hit, miss, eviction and rejection counts are read from the CacheStats of the cache, latencies and payload sizes are
+ * recorded as histograms tagged with the operation.
+ */
+@Component
+public class CacheMetrics {
+
+    private static final String PREFIX = "appsmith.cache.";
+    private static final String CACHE_TAG = "cache";
+    private static final String OPERATION_TAG = "operation";
+
+    public static final String GET = "get";
+    public static final String PUT = "put";
+    public static final String EVICT = "evict";
+    public static final String EVICT_ALL = "evictAll";
+
+    @Getter
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public CacheMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Registers the counters of a cache, the values are read from the CacheStats held in statsMap for cacheName.
+     * @param cacheName The name of the cache.
+     * @param statsMap The map holding the stats of all caches.
+     */
+    public void registerStats(String cacheName, Map<String, CacheStats> statsMap) {
+        registerCounter("hits", cacheName, statsMap, stats -> stats.getHits().get());
+        registerCounter("misses", cacheName, statsMap, stats -> stats.getMisses().get());
+        registerCounter("evictions.single", cacheName, statsMap, stats -> stats.getSingleEvictions().get());
+        registerCounter("evictions.all", cacheName, statsMap, stats -> stats.getCompleteEvictions().get());
+        registerCounter("puts.rejected", cacheName, statsMap, stats -> stats.getRejectedPuts().get());
+    }
+
+    private void registerCounter(
+            String name, String cacheName, Map<String, CacheStats> statsMap, ToIntFunction<CacheStats> count) {
+        FunctionCounter.builder(PREFIX + name, statsMap, map -> {
+                    CacheStats stats = map.get(cacheName);
+                    return stats == null ? 0 : count.applyAsInt(stats);
+                })
+                .tag(CACHE_TAG, cacheName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time taken by a cache operation.
+     * @param cacheName The name of the cache.
+     * @param operation One of the operation constants of this class.
+     * @param nanos The time taken in nanoseconds.
+     */
+    public void recordLatency(String cacheName, String operation, long nanos) {
+        timers.computeIfAbsent(cacheName + ":" + operation, id -> Timer.builder(PREFIX + "latency")
+                        .tag(CACHE_TAG, cacheName)
+                        .tag(OPERATION_TAG, operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the serialized size of a value read from or written to the cache.
+     * @param cacheName The name of the cache.
+     * @param operation One of the operation constants of this class.
+     * @param bytes The size of the payload in bytes.
+     */
+    public void recordPayloadSize(String cacheName, String operation, long bytes) {
+        payloadSizes
+                .computeIfAbsent(cacheName + ":" + operation, id -> DistributionSummary.builder(PREFIX + "payload.size")
+                        .baseUnit("bytes")
+                        .tag(CACHE_TAG, cacheName)
+                        .tag(OPERATION_TAG, operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+}
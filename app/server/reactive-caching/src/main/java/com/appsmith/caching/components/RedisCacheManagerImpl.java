@@ -1,17 +1,34 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.codec.CacheValueCodec;
+import com.appsmith.caching.model.CacheEntryOptions;
+import com.appsmith.caching.model.CacheKeySize;
 import com.appsmith.caching.model.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
@@ -22,8 +39,31 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    // Header prepended to values encoded with a CacheValueCodec, followed by the codec id. The leading zero byte
+    // can not start a JSON or JDK serialized payload, so plain values written without a codec are still readable.
+    private static final byte[] CODEC_HEADER = {0, 'A', 'C'};
+
+    // Returns the value and its remaining time to live in milliseconds, or an empty reply if there is no value
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_WITH_TTL_SCRIPT = RedisScript.of(
+            "local value = redis.call('GET', KEYS[1]) "
+                    + "if not value then return {} end "
+                    + "return {value, redis.call('PTTL', KEYS[1])}",
+            List.class);
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Reads and writes raw bytes so that values can be encoded with the codec after serialization
+    private final ReactiveRedisTemplate<String, byte[]> rawRedisTemplate;
+
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
+
+    private final CacheValueCodec cacheValueCodec;
+
+    private final CacheMetrics cacheMetrics;
+
+    // Number of keys requested per SCAN call and removed per UNLINK call while evicting a complete cache
+    private final int evictionBatchSize;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
@@ -33,7 +73,10 @@ public class RedisCacheManagerImpl implements CacheManager {
      */
     private void ensureStats(String cacheName) {
         if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
+            statsMap.computeIfAbsent(cacheName, name -> {
+                cacheMetrics.registerStats(name, statsMap);
+                return CacheStats.newInstance();
+            });
         }
     }
 
@@ -42,12 +85,15 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, "
+                            + "singleEvictionNanos = {}, completeEvictionNanos = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getSingleEvictionNanos(),
+                    stats.getCompleteEvictionNanos());
         });
     }
 
@@ -61,56 +107,232 @@ public class RedisCacheManagerImpl implements CacheManager {
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            CacheValueCodec cacheValueCodec,
+            CacheMetrics cacheMetrics,
+            @Value("${appsmith.caching.eviction-batch-size:500}") int evictionBatchSize) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.cacheValueCodec = cacheValueCodec;
+        this.cacheMetrics = cacheMetrics;
+        this.evictionBatchSize = evictionBatchSize;
+        this.valueSerializationPair =
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+        this.rawRedisTemplate = new ReactiveRedisTemplate<>(
+                reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .hashKey(RedisSerializer.string())
+                        .build());
+    }
+
+    /**
+     * Serializes the value with the Redis value serializer, without encoding it with the codec.
+     */
+    byte[] serialize(Object value) {
+        return ByteUtils.getBytes(valueSerializationPair.write(value));
+    }
+
+    /**
+     * Deserializes bytes returned by {@link #serialize}, giving a new instance on every call.
+     */
+    Object deserialize(byte[] serialized) {
+        return valueSerializationPair.read(ByteBuffer.wrap(serialized));
+    }
+
+    /**
+     * Encodes the serialized value with the codec if compression is requested.
+     * @return The bytes to store, or null if the serialized value exceeds the size limit of the entry.
+     */
+    private byte[] encodeValue(byte[] serialized, CacheEntryOptions options) {
+        if (options.getMaxSerializedBytes() > 0 && serialized.length > options.getMaxSerializedBytes()) {
+            return null;
+        }
+
+        if (!options.isCompress()) {
+            return serialized;
+        }
+
+        byte[] encoded = cacheValueCodec.encode(serialized);
+        return ByteUtils.concatAll(CODEC_HEADER, new byte[] {cacheValueCodec.id()}, encoded);
+    }
+
+    /**
+     * Decodes the stored bytes if they carry the codec header, giving back the serialized value.
+     */
+    private byte[] decodeValue(byte[] stored) {
+        byte[] serialized = stored;
+        if (stored.length > CODEC_HEADER.length && ByteUtils.startsWith(stored, CODEC_HEADER)) {
+            byte codecId = stored[CODEC_HEADER.length];
+            if (codecId != cacheValueCodec.id()) {
+                throw new IllegalStateException("Cache value was encoded with unknown codec " + codecId);
+            }
+            serialized = cacheValueCodec.decode(Arrays.copyOfRange(stored, CODEC_HEADER.length + 1, stored.length));
+        }
+        return serialized;
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
-        ensureStats(cacheName);
+        return getSerialized(cacheName, key).map(this::deserialize);
+    }
+
+    /**
+     * Reads the entry without deserializing it, so that the caller can keep the serialized form around.
+     * @return The serialized value, already decoded with the codec if it was stored compressed.
+     */
+    Mono<byte[]> getSerialized(String cacheName, String key) {
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
+        return readStored(cacheName, path, rawRedisTemplate.opsForValue().get(path), stored -> stored.length)
+                .map(this::decodeValue);
+    }
+
+    /**
+     * Reads the entry together with the time it has left to live, in a single round trip to Redis.
+     * @return The serialized value, already decoded with the codec, and its remaining time to live, which is
+     * {@link Duration#ZERO} if the entry never expires. Empty if there is no entry.
+     */
+    Mono<Tuple2<byte[], Duration>> getSerializedWithTtl(String cacheName, String key) {
+        String path = cacheName + ":" + key;
+        Mono<Tuple2<byte[], Long>> entry = rawRedisTemplate
+                .execute(GET_WITH_TTL_SCRIPT, List.of(path), List.of())
+                .next()
+                .filter(reply -> reply.size() == 2)
+                .map(reply -> Tuples.of((byte[]) reply.get(0), (Long) reply.get(1)));
+        return readStored(cacheName, path, entry, stored -> stored.getT1().length)
+                .map(stored -> Tuples.of(
+                        decodeValue(stored.getT1()),
+                        // PTTL is negative for entries without an expiry
+                        stored.getT2() < 0 ? Duration.ZERO : Duration.ofMillis(Math.max(stored.getT2(), 1))));
+    }
+
+    /**
+     * Records the hit or miss, payload size and latency of a read from Redis.
+     */
+    private <T> Mono<T> readStored(String cacheName, String path, Mono<T> read, ToIntFunction<T> storedSize) {
+        ensureStats(cacheName);
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return read.doOnNext(stored -> {
+                        // This is a cache hit, update stats and return value
+                        statsMap.get(cacheName).getHits().incrementAndGet();
+                        cacheMetrics.recordPayloadSize(cacheName, CacheMetrics.GET, storedSize.applyAsInt(stored));
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        // This is a cache miss, update stats and return empty
+                        statsMap.get(cacheName).getMisses().incrementAndGet();
+                        log.debug("Cache miss for key {}", path);
+                        return Mono.empty();
+                    }))
+                    .doFinally(signal ->
+                            cacheMetrics.recordLatency(cacheName, CacheMetrics.GET, System.nanoTime() - startTime));
+        });
     }
 
     @Override
-    public Mono<Boolean> put(String cacheName, String key, Object value) {
+    public Mono<Boolean> put(String cacheName, String key, Object value, CacheEntryOptions options) {
+        return Mono.fromCallable(() -> serialize(value))
+                .flatMap(serialized -> putSerialized(cacheName, key, serialized, options));
+    }
+
+    /**
+     * Stores a value already serialized with {@link #serialize}, encoding it with the codec if requested.
+     */
+    Mono<Boolean> putSerialized(String cacheName, String key, byte[] serialized, CacheEntryOptions options) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        return Mono.fromCallable(() -> encodeValue(serialized, options))
+                .flatMap(bytes -> {
+                    log.debug("Cache entry added for key {}", path);
+                    cacheMetrics.recordPayloadSize(cacheName, CacheMetrics.PUT, bytes.length);
+                    long startTime = System.nanoTime();
+                    Mono<Boolean> set = options.getTtl() == null
+                            ? rawRedisTemplate.opsForValue().set(path, bytes)
+                            : rawRedisTemplate.opsForValue().set(path, bytes, options.getTtl());
+                    return set.doFinally(signal ->
+                            cacheMetrics.recordLatency(cacheName, CacheMetrics.PUT, System.nanoTime() - startTime));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    // Serialized value exceeds the size limit of the entry, skip caching it
+                    statsMap.get(cacheName).getRejectedPuts().incrementAndGet();
+                    log.debug(
+                            "Cache entry for key {} exceeds {} bytes, not cached",
+                            path,
+                            options.getMaxSerializedBytes());
+                    return Mono.just(false);
+                }));
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
-        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        CacheStats stats = statsMap.get(cacheName);
+        stats.getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return reactiveRedisTemplate
+                    .delete(path)
+                    .doFinally(signal -> {
+                        long elapsed = System.nanoTime() - startTime;
+                        stats.getSingleEvictionNanos().addAndGet(elapsed);
+                        cacheMetrics.recordLatency(cacheName, CacheMetrics.EVICT, elapsed);
+                    })
+                    .then();
+        });
     }
 
+    /**
+     * Removes all keys of the cache with an incremental SCAN, unlinking the matched keys in batches. Unlike a single
+     * KEYS call this never blocks Redis for longer than one batch, so other clients keep being served while a large
+     * cache is being cleared.
+     */
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
-        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        CacheStats stats = statsMap.get(cacheName);
+        stats.getCompleteEvictions().incrementAndGet();
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(evictionBatchSize)
+                .build();
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return reactiveRedisTemplate
+                    .scan(scanOptions)
+                    .buffer(evictionBatchSize)
+                    .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                    .reduce(0L, Long::sum)
+                    .doOnNext(count -> log.debug("Cache {} evicted {} keys", cacheName, count))
+                    .doFinally(signal -> {
+                        long elapsed = System.nanoTime() - startTime;
+                        stats.getCompleteEvictionNanos().addAndGet(elapsed);
+                        cacheMetrics.recordLatency(cacheName, CacheMetrics.EVICT_ALL, elapsed);
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Finds the largest values stored for the caches used on this node. Keys are found with an incremental SCAN and
+     * their size is read with STRLEN, so this is meant for diagnostics and not for request paths.
+     * @param limit The maximum number of keys to return.
+     * @return The largest keys, ordered by size descending.
+     */
+    public Mono<List<CacheKeySize>> getLargestKeys(int limit) {
+        Comparator<CacheKeySize> bySize = Comparator.comparingLong(CacheKeySize::getSizeInBytes);
+        return Flux.fromIterable(statsMap.keySet())
+                .concatMap(cacheName -> reactiveRedisTemplate.scan(ScanOptions.scanOptions()
+                        .match(cacheName + ":*")
+                        .count(evictionBatchSize)
+                        .build()))
+                .flatMap(path -> rawRedisTemplate.opsForValue().size(path).map(size -> CacheKeySize.of(path, size)))
+                .collect(() -> new PriorityQueue<CacheKeySize>(bySize), (largest, entry) -> {
+                    // Keep only the largest entries seen so far
+                    largest.add(entry);
+                    if (largest.size() > limit) {
+                        largest.poll();
+                    }
+                })
+                .map(largest -> largest.stream().sorted(bySize.reversed()).toList());
     }
 }
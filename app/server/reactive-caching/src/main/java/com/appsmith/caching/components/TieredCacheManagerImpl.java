@@ -0,0 +1,207 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheEntryOptions;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * TieredCacheManagerImpl is a CacheManager that keeps a bounded, TTL evicting in-process cache (L1) in front of
+ * Redis (L2). Reads are served from L1 when possible and fall back to Redis, populating L1 on the way back.
+ * Evictions are applied to both tiers and broadcast over a Redis pub/sub channel so that the L1 of every other
+ * node drops the same entries.
+ * <p>
+ * L1 holds values in their serialized form and every read deserializes a new instance, so a caller changing the value
+ * it got, e.g. setting the permissions of the current user on it, doesn't change what other callers get. Keeping the
+ * deserialized instances instead would only be safe if the cached types were immutable, which they are not.
+ */
+@Component
+@Primary
+@ConditionalOnClass({ReactiveRedisTemplate.class, Caffeine.class})
+@ConditionalOnProperty(name = "appsmith.caching.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidation";
+
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final String EVICT_KEY = "K";
+    private static final String EVICT_ALL = "A";
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache;
+    private final Duration localTtl;
+
+    // Identifies this node so that it can ignore its own invalidation messages
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private Disposable invalidationSubscription;
+
+    @Autowired
+    public TieredCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            CacheMetrics cacheMetrics,
+            @Value("${appsmith.caching.near-cache.maximum-size:10000}") long maximumSize,
+            @Value("${appsmith.caching.near-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.localTtl = Duration.ofSeconds(ttlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, byte[]>() {
+                    @Override
+                    public long expireAfterCreate(String path, byte[] value, long currentTime) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String path, byte[] value, long currentTime, long currentDuration) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String path, byte[] value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(cacheMetrics.getMeterRegistry(), localCache, "appsmith-near-cache");
+    }
+
+    /**
+     * Subscribes to the invalidation channel. If the subscription fails, L1 is cleared before re-subscribing since
+     * invalidations published in the meantime may have been missed.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> onInvalidationMessage(message.getMessage()))
+                .doOnError(error -> {
+                    log.error("Error in near cache invalidation listener, clearing local cache", error);
+                    localCache.invalidateAll();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void onInvalidationMessage(String message) {
+        // Format: nodeId|operation|cacheName|key
+        String[] parts = message.split("\\" + MESSAGE_DELIMITER, 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (EVICT_ALL.equals(parts[1])) {
+            evictAllLocally(parts[2]);
+        } else if (EVICT_KEY.equals(parts[1]) && parts.length == 4) {
+            localCache.invalidate(path(parts[2], parts[3]));
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String operation, String cacheName, String key) {
+        String message = String.join(MESSAGE_DELIMITER, nodeId, operation, cacheName, key);
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    log.error("Unable to publish near cache invalidation for {}", cacheName, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void evictAllLocally(String cacheName) {
+        String prefix = cacheName + ":";
+        localCache.asMap().keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    private static String path(String cacheName, String key) {
+        return cacheName + ":" + key;
+    }
+
+    @Override
+    public void logStats() {
+        log.debug("Near cache stats: size = {}, {}", localCache.estimatedSize(), localCache.stats());
+        redisCacheManager.logStats();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        String path = path(cacheName, key);
+        byte[] serialized = localCache.getIfPresent(path);
+        if (serialized != null) {
+            return Mono.fromCallable(() -> redisCacheManager.deserialize(serialized));
+        }
+
+        return redisCacheManager
+                .getSerializedWithTtl(cacheName, key)
+                .map(fetched -> {
+                    Duration redisTtl = fetched.getT2();
+                    putLocally(path, fetched.getT1(), redisTtl.isZero() ? null : redisTtl);
+                    return redisCacheManager.deserialize(fetched.getT1());
+                });
+    }
+
+    /**
+     * Keeps the entry in L1, never for longer than it lives in Redis.
+     * @param redisTtl The time the entry lives in Redis, null if it never expires.
+     */
+    private void putLocally(String path, byte[] serialized, Duration redisTtl) {
+        Duration ttl = redisTtl != null && redisTtl.compareTo(localTtl) < 0 ? redisTtl : localTtl;
+        localCache.policy().expireVariably().ifPresent(expiry -> expiry.put(path, serialized, ttl));
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, CacheEntryOptions options) {
+        return Mono.fromCallable(() -> redisCacheManager.serialize(value))
+                .flatMap(serialized -> redisCacheManager
+                        .putSerialized(cacheName, key, serialized, options)
+                        .doOnNext(success -> {
+                            if (Boolean.TRUE.equals(success)) {
+                                putLocally(path(cacheName, key), serialized, options.getTtl());
+                            }
+                        }));
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        return Mono.fromRunnable(() -> localCache.invalidate(path(cacheName, key)))
+                .then(redisCacheManager.evict(cacheName, key))
+                .then(publishInvalidation(EVICT_KEY, cacheName, key));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return Mono.fromRunnable(() -> evictAllLocally(cacheName))
+                .then(redisCacheManager.evictAll(cacheName))
+                .then(publishInvalidation(EVICT_ALL, cacheName, ""));
+    }
+}
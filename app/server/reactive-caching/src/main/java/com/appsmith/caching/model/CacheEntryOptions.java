@@ -0,0 +1,40 @@
+package com.appsmith.caching.model;
+
+import com.appsmith.caching.annotations.Cache;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Options applied when writing a single entry to the cache.
+ */
+@Value
+@Builder
+public class CacheEntryOptions {
+
+    public static final CacheEntryOptions DEFAULT = CacheEntryOptions.builder().build();
+
+    /**
+     * Time after which the entry expires, null if the entry never expires.
+     */
+    Duration ttl;
+
+    /**
+     * Largest serialized size, in bytes, that will be cached. 0 means no limit.
+     */
+    int maxSerializedBytes;
+
+    /**
+     * Whether the serialized value should be compressed before it is stored.
+     */
+    boolean compress;
+
+    public static CacheEntryOptions from(Cache annotation) {
+        return CacheEntryOptions.builder()
+                .ttl(annotation.ttl() > 0 ? Duration.ofSeconds(annotation.ttl()) : null)
+                .maxSerializedBytes(annotation.maxSerializedBytes())
+                .compress(annotation.compress())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * The size of the value stored for a cache key in Redis.
+ */
+@Data
+@AllArgsConstructor(staticName = "of")
+public class CacheKeySize {
+    /**
+     * The full key, cacheName:key.
+     */
+    private String key;
+
+    /**
+     * The size of the stored value in bytes.
+     */
+    private long sizeInBytes;
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a CacheStats class that is used to store the stats of a cache.
@@ -31,4 +32,19 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of values that were not cached because their serialized size exceeded the limit.
+     */
+    private AtomicInteger rejectedPuts = new AtomicInteger(0);
+
+    /**
+     * The total time spent evicting single keys, in nanoseconds.
+     */
+    private AtomicLong singleEvictionNanos = new AtomicLong(0);
+
+    /**
+     * The total time spent evicting all keys, in nanoseconds.
+     */
+    private AtomicLong completeEvictionNanos = new AtomicLong(0);
 }
@@ -107,4 +107,26 @@ public class CacheTestService {
     public Mono<Void> evictObjectForWithKey(String id) {
         return Mono.empty();
     }
+
+    /**
+     * This method is used to test serving stale values while they are refreshed in the background.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "revalidatedcache", refreshAfter = 1)
+    public Mono<TestModel> getRevalidatedObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(200));
+    }
+
+    /**
+     * This method is used to test the eviction functionality for caches that use refreshAfter.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "revalidatedcache")
+    public Mono<Void> evictRevalidatedObjectFor(String id) {
+        return Mono.empty();
+    }
 }
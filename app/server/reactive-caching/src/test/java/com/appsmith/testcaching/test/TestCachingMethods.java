@@ -1,6 +1,9 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CacheEntryOptions;
+import com.appsmith.caching.model.CacheKeySize;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +13,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +38,9 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -99,6 +112,143 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that concurrent cache misses share a single call of the original method
+     */
+    @Test
+    public void testConcurrentMissesShareLoad() {
+        cacheTestService.evictObjectFor("test3").block();
+
+        Tuple2<TestModel, TestModel> models = Mono.zip(
+                        cacheTestService.getObjectFor("test3"), cacheTestService.getObjectFor("test3"))
+                .block();
+        assertEquals(models.getT1(), models.getT2());
+    }
+
+    /**
+     * This Test is used to test that callers sharing a load don't share the instance they get
+     */
+    @Test
+    public void testConcurrentMissesGetOwnCopies() {
+        cacheTestService.evictObjectFor("test4").block();
+
+        Tuple2<TestModel, TestModel> models = Mono.zip(
+                        cacheTestService.getObjectFor("test4").doOnNext(model -> model.setStringValue("first")),
+                        cacheTestService.getObjectFor("test4").doOnNext(model -> model.setStringValue("second")))
+                .block();
+        assertNotSame(models.getT1(), models.getT2());
+        assertEquals("first", models.getT1().getStringValue());
+        assertEquals("second", models.getT2().getStringValue());
+        assertEquals(models.getT1().getId(), models.getT2().getId());
+        assertEquals(models.getT1().getNestedModel(), models.getT2().getNestedModel());
+    }
+
+    /**
+     * This Test is used to test that a stale value is returned right away while it is refreshed in the background
+     */
+    @Test
+    public void testStaleValueRevalidated() throws InterruptedException {
+        cacheTestService.evictRevalidatedObjectFor("test1").block();
+
+        TestModel model = cacheTestService.getRevalidatedObjectFor("test1").block();
+        assertEquals(model, cacheTestService.getRevalidatedObjectFor("test1").block());
+
+        // Once stale, the cached value is still returned while a refresh is triggered
+        Thread.sleep(1100);
+        assertEquals(model, cacheTestService.getRevalidatedObjectFor("test1").block());
+
+        // The refresh replaces the cached value after the original method completes
+        Thread.sleep(1000);
+        assertNotEquals(model, cacheTestService.getRevalidatedObjectFor("test1").block());
+    }
+
+    /**
+     * This Test is used to test that the near cache is invalidated together with Redis on evict.
+     */
+    @Test
+    public void testNearCacheEvict() {
+        cacheManager.put("nearcache", "test1", "value1").block();
+        assertEquals("value1", cacheManager.get("nearcache", "test1").block());
+
+        cacheManager.evict("nearcache", "test1").block();
+        assertNull(cacheManager.get("nearcache", "test1").block());
+
+        cacheManager.put("nearcache", "test1", "value2").block();
+        cacheManager.put("nearcache", "test2", "value2").block();
+        cacheManager.evictAll("nearcache").block();
+        assertNull(cacheManager.get("nearcache", "test1").block());
+        assertNull(cacheManager.get("nearcache", "test2").block());
+    }
+
+    /**
+     * This Test is used to test that changing a value read from the near cache doesn't change the cached value.
+     */
+    @Test
+    public void testNearCacheReturnsCopies() {
+        TestModel model = new TestModel();
+        model.setId("test1");
+        model.setStringValue("original");
+        cacheManager.put("copycache", "test1", model).block();
+
+        TestModel cached = (TestModel) cacheManager.get("copycache", "test1").block();
+        assertEquals(model, cached);
+        cached.setStringValue("changed");
+
+        TestModel cachedAgain = (TestModel) cacheManager.get("copycache", "test1").block();
+        assertEquals("original", cachedAgain.getStringValue());
+        assertNotSame(cached, cachedAgain);
+    }
+
+    /**
+     * This Test is used to test compression and the serialized size limit of cache entries.
+     */
+    @Test
+    public void testEntryOptions() {
+        String value = "compressible ".repeat(100);
+        CacheEntryOptions compressed = CacheEntryOptions.builder()
+                .compress(true)
+                .ttl(Duration.ofMinutes(1))
+                .build();
+        assertTrue(cacheManager.put("optionscache", "test1", value, compressed).block());
+        // Read from Redis itself, the near cache holds the value as it was before compression
+        assertEquals(value, redisCacheManager.get("optionscache", "test1").block());
+
+        CacheEntryOptions limited =
+                CacheEntryOptions.builder().maxSerializedBytes(10).build();
+        assertFalse(cacheManager.put("optionscache", "test2", value, limited).block());
+        assertNull(cacheManager.get("optionscache", "test2").block());
+    }
+
+    /**
+     * This Test is used to test that an entry read from Redis is not kept in the near cache after it expires in Redis.
+     */
+    @Test
+    public void testNearCacheHonoursRedisTtl() throws InterruptedException {
+        CacheEntryOptions shortLived =
+                CacheEntryOptions.builder().ttl(Duration.ofSeconds(1)).build();
+        // Written to Redis only, so the near cache is populated by the read below
+        assertTrue(redisCacheManager
+                .put("ttlcache", "test1", "value1", shortLived)
+                .block());
+        assertEquals("value1", cacheManager.get("ttlcache", "test1").block());
+
+        Thread.sleep(1500);
+        assertNull(cacheManager.get("ttlcache", "test1").block());
+    }
+
+    /**
+     * This Test is used to test listing the largest cache keys
+     */
+    @Test
+    public void testLargestKeys() {
+        cacheManager.put("sizecache", "small", "a").block();
+        cacheManager.put("sizecache", "large", "a".repeat(1000)).block();
+
+        List<CacheKeySize> largestKeys = redisCacheManager.getLargestKeys(1).block();
+        assertEquals(1, largestKeys.size());
+        assertEquals("sizecache:large", largestKeys.get(0).getKey());
+    }
+
     /**
      * Test to measure performance of caching
      */